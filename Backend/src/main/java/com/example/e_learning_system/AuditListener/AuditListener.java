@@ -1,7 +1,7 @@
 package com.example.e_learning_system.AuditListener;
 
 import com.example.e_learning_system.Entities.AuditLogEntity;
-import com.example.e_learning_system.Entities.BaseEntity;
+import com.example.e_learning_system.Entities.AuditedEntity;
 import com.example.e_learning_system.Security.UserUtil;
 import com.example.e_learning_system.Service.Interfaces.AuditLog;
 import jakarta.persistence.*;
@@ -24,7 +24,7 @@ public class AuditListener {
     }
 
     @PostPersist
-    public void postPersist(BaseEntity entity) {
+    public void postPersist(AuditedEntity entity) {
         if (entity instanceof AuditLogEntity) return;
 
         Map<String, Object> newData = extractData(entity);
@@ -36,7 +36,7 @@ public class AuditListener {
     }
 
     @PostUpdate
-    public void postUpdate(BaseEntity entity) {
+    public void postUpdate(AuditedEntity entity) {
         if (entity instanceof AuditLogEntity) return;
 
         Map<String, Object> oldData = entity.getOldState();
@@ -50,7 +50,7 @@ public class AuditListener {
     }
 
     @PostRemove
-    public void postRemove(BaseEntity entity) {
+    public void postRemove(AuditedEntity entity) {
         if (entity instanceof AuditLogEntity) return;
 
         Map<String, Object> oldData = extractData(entity);
@@ -64,7 +64,7 @@ public class AuditListener {
 
 
 
-    public static Map<String, Object> extractData(BaseEntity entity) {
+    public static Map<String, Object> extractData(AuditedEntity entity) {
         Map<String, Object> map = new HashMap<>();
         if (entity == null) return map;
 
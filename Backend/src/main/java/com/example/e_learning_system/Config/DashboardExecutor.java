@@ -0,0 +1,27 @@
+package com.example.e_learning_system.Config;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The bounded pool behind dashboard loads. Deliberately not an {@link Executor} bean:
+ * a user-defined Executor makes Spring Boot back off from its applicationTaskExecutor,
+ * which @Async and async MVC requests rely on.
+ */
+public class DashboardExecutor {
+
+    private final ThreadPoolTaskExecutor pool;
+
+    public DashboardExecutor(ThreadPoolTaskExecutor pool) {
+        this.pool = pool;
+    }
+
+    public Executor executor() {
+        return pool;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.e_learning_system.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class DashboardExecutorConfig {
+
+    /**
+     * Bounded pool for the concurrent loads of dashboard requests. When it is saturated
+     * the request thread runs the load itself instead of queueing without limit.
+     */
+    @Bean(name = "dashboardExecutor", destroyMethod = "shutdown")
+    public DashboardExecutor dashboardExecutor(@Value("${app.dashboard.executor.pool-size:8}") int poolSize,
+                                                    @Value("${app.dashboard.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return new DashboardExecutor(executor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.e_learning_system.Config;
+
+/**
+ * Bucket width of revenue time series; {@link #unit} is the PostgreSQL date_trunc field
+ */
+public enum RevenueGranularity {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String unit;
+
+    RevenueGranularity(String unit) {
+        this.unit = unit;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
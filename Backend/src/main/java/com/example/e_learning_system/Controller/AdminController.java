@@ -1,13 +1,19 @@
 package com.example.e_learning_system.Controller;
 
+import com.example.e_learning_system.Config.RevenueGranularity;
 import com.example.e_learning_system.Dto.*;
+import com.example.e_learning_system.Dto.PaymentDtos.RevenuePointDto;
 import com.example.e_learning_system.Entities.PermissionsEntity;
 import com.example.e_learning_system.Service.AdminService;
+import com.example.e_learning_system.Service.CourseCatalogCache;
+import com.example.e_learning_system.Service.RevenueRollupService;
 import com.example.e_learning_system.excpetions.ResourceNotFound;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,6 +23,12 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private CourseCatalogCache courseCatalogCache;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
     // Get all roles with permissions
     @GetMapping("/roles")
     public ResponseEntity<List<RoleResponseDTO>> getAllRoles() {
@@ -24,6 +36,21 @@ public class AdminController {
         return ResponseEntity.ok(adminService.viewRoles());
     }
 
+    // Hit rate and size of the course catalog cache
+    @GetMapping("/cache/catalog")
+    public ResponseEntity<List<CacheStatsDto>> getCatalogCacheStats() {
+        return ResponseEntity.ok(courseCatalogCache.getStats());
+    }
+
+    // Platform-wide course revenue per day, week or month, from the daily rollups
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenuePointDto>> getRevenueSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity) {
+        return ResponseEntity.ok(revenueRollupService.getSeries(null, granularity, from, to));
+    }
+
     // Get all permissions
     @GetMapping("/permissions")
     public ResponseEntity<List<PermissionsResponsDTO>> getAllPermissions() {
@@ -6,9 +6,13 @@ import com.example.e_learning_system.Config.Currency;
 import com.example.e_learning_system.Config.DifficultyLevel;
 import com.example.e_learning_system.Config.Tags;
 import com.example.e_learning_system.Dto.ApiResponse;
+import com.example.e_learning_system.Dto.CursorPageDto;
+import com.example.e_learning_system.Dto.CourseDtos.CourseContentDto;
 import com.example.e_learning_system.Dto.CourseDtos.CourseDetailsDto;
+import com.example.e_learning_system.Dto.CourseDtos.CourseFacetsDto;
 import com.example.e_learning_system.Dto.CourseDtos.CourseFilterDto;
 import com.example.e_learning_system.Dto.CourseDtos.CourseSearchResultDto;
+import com.example.e_learning_system.Dto.CourseDtos.CourseSuggestionDto;
 import com.example.e_learning_system.Dto.CourseDtos.CourseSummaryDto;
 import com.example.e_learning_system.Dto.CourseDtos.CreateCourseDto;
 import com.example.e_learning_system.Dto.CourseDtos.TagDto;
@@ -17,6 +21,8 @@ import com.example.e_learning_system.Dto.CourseDtos.UpdateCourseDto;
 import com.example.e_learning_system.Entities.TagsEntity;
 import com.example.e_learning_system.Service.Interfaces.CourseService;
 import com.example.e_learning_system.Service.AuthorizationService;
+import com.example.e_learning_system.Service.CourseContentService;
+import com.example.e_learning_system.Service.CourseSuggestIndex;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,6 +58,8 @@ public class CourseController {
 
     private final CourseService courseService;
     private final AuthorizationService authorizationService;
+    private final CourseSuggestIndex courseSuggestIndex;
+    private final CourseContentService courseContentService;
 
 
     /**
@@ -85,45 +93,78 @@ public class CourseController {
             @RequestParam(required = false) List<Category> categories
             ) {
 
-                
-            List<TagDto> tagList = new ArrayList<>();
+        CourseFilterDto filterDto = buildFilterDto(name, description, minPrice, maxPrice, currency,
+                minDurationHours, maxDurationHours, isActive, isFree, createdByUserId,
+                statuses, difficultyLevels, tags, categories);
 
-            if (tags != null && !tags.isEmpty()) {
-            try {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    tagList = objectMapper.readValue(tags, new TypeReference<List<TagDto>>() {});
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException("Invalid tags format", e);
-                }
-            }
+        Page<CourseSummaryDto> courses = courseService.getCourses(filterDto, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
+    }
 
-        // Convert List<TagDto> to List<String> (tag names)
-        List<String> tagNames = new ArrayList<>();
-        for (TagDto tag : tagList) {
-            tagNames.add(tag.getName());
-        }
+    /**
+     * Get courses with filtering using keyset (cursor) pagination.
+     * Pass an empty cursor for the first slice, then the returned nextCursor.
+     * Supported sorts: id, name, createdAt.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPageDto<CourseSummaryDto>>> getCoursesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) Integer minDurationHours,
+            @RequestParam(required = false) Integer maxDurationHours,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isFree,
+            @RequestParam(required = false) Integer createdByUserId,
+            @RequestParam(required = false) List<CourseStatus> statuses,
+            @RequestParam(required = false) List<DifficultyLevel> difficultyLevels,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) List<Category> categories
+            ) {
 
-        CourseFilterDto filterDto = CourseFilterDto.builder()
-                .name(name)
-                .description(description)
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
-                .currency(currency)
-                .minDurationHours(minDurationHours)
-                .maxDurationHours(maxDurationHours)
-                .isActive(isActive)
-                .isFree(isFree)
-                .createdByUserId(createdByUserId)
-                .statuses(statuses)
-                .difficultyLevels(difficultyLevels)
-                .categories(categories)
-                .tags(tagNames)
-                .build();
+        CourseFilterDto filterDto = buildFilterDto(name, description, minPrice, maxPrice, currency,
+                minDurationHours, maxDurationHours, isActive, isFree, createdByUserId,
+                statuses, difficultyLevels, tags, categories);
 
-        Page<CourseSummaryDto> courses = courseService.getCourses(filterDto, pageable);
+        CursorPageDto<CourseSummaryDto> courses = courseService.getCoursesByCursor(filterDto, cursor, pageable, includeTotal);
         return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
     }
 
+    /**
+     * Facet counts (category, difficulty, tag, price bucket) for the current filter,
+     * used to render the filter sidebar in one request
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<CourseFacetsDto>> getCourseFacets(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) Integer minDurationHours,
+            @RequestParam(required = false) Integer maxDurationHours,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean isFree,
+            @RequestParam(required = false) Integer createdByUserId,
+            @RequestParam(required = false) List<CourseStatus> statuses,
+            @RequestParam(required = false) List<DifficultyLevel> difficultyLevels,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) List<Category> categories
+            ) {
+
+        CourseFilterDto filterDto = buildFilterDto(name, description, minPrice, maxPrice, currency,
+                minDurationHours, maxDurationHours, isActive, isFree, createdByUserId,
+                statuses, difficultyLevels, tags, categories);
+
+        CourseFacetsDto facets = courseService.getCourseFacets(filterDto);
+        return ResponseEntity.ok(ApiResponse.success("Course facets retrieved successfully", facets));
+    }
+
     /**
      * Get course details by ID
      */
@@ -133,6 +174,15 @@ public class CourseController {
         return ResponseEntity.ok(ApiResponse.success("Course retrieved successfully", course));
     }
 
+    /**
+     * Get the whole content tree of a course (modules, lessons, attachments) in one response
+     */
+    @GetMapping("/{id}/content")
+    public ResponseEntity<ApiResponse<CourseContentDto>> getCourseContent(@PathVariable Integer id) {
+        CourseContentDto content = courseContentService.getCourseContent(id);
+        return ResponseEntity.ok(ApiResponse.success("Course content retrieved successfully", content));
+    }
+
     /**
      * Create a new course - Only teachers and admins can create courses
      */
@@ -377,6 +427,18 @@ public class CourseController {
         return ResponseEntity.ok(ApiResponse.success("Tags retrieved successfully", courseService.getAllTags()));
     }
 
+    /**
+     * Autocomplete suggestions for the search box, served from the in-memory prefix index
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<CourseSuggestionDto>>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        List<CourseSuggestionDto> suggestions = courseSuggestIndex.suggest(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<CourseSearchResultDto>>> searchCourses(
             @RequestParam String query
@@ -385,7 +447,43 @@ public class CourseController {
         return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", results));
     }
 
+    private CourseFilterDto buildFilterDto(String name, String description, BigDecimal minPrice, BigDecimal maxPrice,
+                                           Currency currency, Integer minDurationHours, Integer maxDurationHours,
+                                           Boolean isActive, Boolean isFree, Integer createdByUserId,
+                                           List<CourseStatus> statuses, List<DifficultyLevel> difficultyLevels,
+                                           String tags, List<Category> categories) {
+        List<TagDto> tagList = new ArrayList<>();
 
+        if (tags != null && !tags.isEmpty()) {
+            try {
+                ObjectMapper objectMapper = new ObjectMapper();
+                tagList = objectMapper.readValue(tags, new TypeReference<List<TagDto>>() {});
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Invalid tags format", e);
+            }
+        }
 
+        // Convert List<TagDto> to List<String> (tag names)
+        List<String> tagNames = new ArrayList<>();
+        for (TagDto tag : tagList) {
+            tagNames.add(tag.getName());
+        }
 
-}
\ No newline at end of file
+        return CourseFilterDto.builder()
+                .name(name)
+                .description(description)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .currency(currency)
+                .minDurationHours(minDurationHours)
+                .maxDurationHours(maxDurationHours)
+                .isActive(isActive)
+                .isFree(isFree)
+                .createdByUserId(createdByUserId)
+                .statuses(statuses)
+                .difficultyLevels(difficultyLevels)
+                .categories(categories)
+                .tags(tagNames)
+                .build();
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.e_learning_system.Controller;
 
+import com.example.e_learning_system.Config.RevenueGranularity;
 import com.example.e_learning_system.Dto.ApiResponse;
 import com.example.e_learning_system.Dto.MyCourseDtos.MyCoursesResponseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherCourseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherStatsDto;
+import com.example.e_learning_system.Dto.PaymentDtos.RevenuePointDto;
 import com.example.e_learning_system.Service.Interfaces.MyCoursesService;
 import com.example.e_learning_system.Service.AuthorizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -135,4 +139,25 @@ public class MyCoursesController {
         return ResponseEntity.ok(
                 ApiResponse.success("Course details fetched successfully", course));
     }
+
+    /**
+     * Get revenue of the current teacher's courses per day, week or month
+     * GET /api/my-courses/revenue?from=2025-01-01&to=2025-03-31&granularity=WEEK
+     */
+    @GetMapping("/revenue")
+    public ResponseEntity<ApiResponse<List<RevenuePointDto>>> getRevenueSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity) {
+        // Only teachers and admins can access revenue
+        authorizationService.requireTeacherOrAdmin();
+
+        Integer currentUserId = authorizationService.getCurrentUser().getId();
+        log.info("Fetching revenue for teacher {}", currentUserId);
+
+        List<RevenuePointDto> revenue = myCoursesService.getRevenueSeries(currentUserId, granularity, from, to);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Revenue fetched successfully", revenue));
+    }
 }
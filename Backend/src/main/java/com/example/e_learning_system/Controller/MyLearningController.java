@@ -1,13 +1,20 @@
 package com.example.e_learning_system.Controller;
 
 import com.example.e_learning_system.Dto.ApiResponse;
+import com.example.e_learning_system.Dto.MyLearningDtos.CoursePositionDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.EnrolledCourseDto;
+import com.example.e_learning_system.Dto.MyLearningDtos.LearningStreakDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.MyLearningResponseDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.MyLearningStatsDto;
+import com.example.e_learning_system.Dto.MyLearningDtos.StreakLeaderboardEntryDto;
 import com.example.e_learning_system.Service.Interfaces.MyLearningService;
 import com.example.e_learning_system.Service.AuthorizationService;
+import com.example.e_learning_system.Service.CoursePositionService;
+import com.example.e_learning_system.Service.LearningStreakService;
 import com.example.e_learning_system.Entities.UserEntity;
+import com.example.e_learning_system.excpetions.ClientException;
 import com.example.e_learning_system.excpetions.SecurityException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +33,10 @@ public class MyLearningController {
 
     private final MyLearningService myLearningService;
     private final AuthorizationService authorizationService;
+    private final LearningStreakService learningStreakService;
+    private final CoursePositionService coursePositionService;
+
+    private static final int MAX_STREAK_BATCH = 500;
 
 
     /**
@@ -253,4 +264,78 @@ public class MyLearningController {
         return ResponseEntity.ok(
                 ApiResponse.success("Enrolled course details fetched successfully", course));
     }
+
+    /**
+     * Save where the current user left off in a course
+     * POST /api/my-learning/course/{courseId}/position
+     */
+    @PostMapping("/course/{courseId}/position")
+    public ResponseEntity<ApiResponse<Void>> updateCurrentUserCoursePosition(
+            @PathVariable Integer courseId,
+            @Valid @RequestBody CoursePositionDto position) {
+        UserEntity currentUser = authorizationService.getCurrentUser();
+
+        if (!authorizationService.canAccessCourse(courseId)) {
+            throw SecurityException.accessDenied("Course " + courseId);
+        }
+
+        coursePositionService.record(currentUser.getId(), courseId, position);
+
+        return ResponseEntity.accepted().body(
+                ApiResponse.success("Course position recorded", null));
+    }
+
+    /**
+     * Get where the current user left off in a course (null data when never opened)
+     * GET /api/my-learning/course/{courseId}/position
+     */
+    @GetMapping("/course/{courseId}/position")
+    public ResponseEntity<ApiResponse<CoursePositionDto>> getCurrentUserCoursePosition(
+            @PathVariable Integer courseId) {
+        UserEntity currentUser = authorizationService.getCurrentUser();
+
+        CoursePositionDto position = coursePositionService.getPosition(currentUser.getId(), courseId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Course position fetched successfully", position));
+    }
+
+    /**
+     * Get learning streaks of many users at once (admin only, other users may only ask for themselves)
+     * POST /api/my-learning/streaks
+     */
+    @PostMapping("/streaks")
+    public ResponseEntity<ApiResponse<List<LearningStreakDto>>> getLearningStreaks(
+            @RequestBody List<Integer> userIds) {
+        if (userIds == null || userIds.size() > MAX_STREAK_BATCH) {
+            throw ClientException.badRequest("Between 0 and " + MAX_STREAK_BATCH + " user ids are allowed");
+        }
+
+        // Users can only access their own streak, unless they are admin
+        if (!authorizationService.isCurrentUserAdmin()) {
+            Integer currentUserId = authorizationService.getCurrentUser().getId();
+            if (userIds.stream().anyMatch(userId -> !currentUserId.equals(userId))) {
+                throw SecurityException.accessDenied("User streaks");
+            }
+        }
+
+        List<LearningStreakDto> streaks = learningStreakService.getStreaks(userIds);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Learning streaks fetched successfully", streaks));
+    }
+
+    /**
+     * Get users with the longest live learning streaks (streak lengths only)
+     * GET /api/my-learning/streaks/leaderboard?limit=10
+     */
+    @GetMapping("/streaks/leaderboard")
+    public ResponseEntity<ApiResponse<List<StreakLeaderboardEntryDto>>> getStreakLeaderboard(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<StreakLeaderboardEntryDto> leaderboard = learningStreakService.getLeaderboard(
+                Math.max(1, Math.min(limit, MAX_STREAK_BATCH)));
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Streak leaderboard fetched successfully", leaderboard));
+    }
 }
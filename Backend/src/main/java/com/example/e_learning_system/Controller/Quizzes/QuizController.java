@@ -4,13 +4,14 @@ import com.example.e_learning_system.Dto.quizzes.QuizResponseDTO;
 import com.example.e_learning_system.Dto.quizzes.UpdateQuizDTO;
 import com.example.e_learning_system.Service.Interfaces.QuizzesInterfaces.QuizInterface;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/quizzes")
 public class QuizController {
@@ -44,12 +45,13 @@ public class QuizController {
 
 
     @GetMapping("/getQuizzes")
-    public ResponseEntity<List<QuizResponseDTO>> getQuizzes(
+    public ResponseEntity<Page<QuizResponseDTO>> getQuizzes(
             @RequestParam(required = false) Integer courseId,
             @RequestParam(required = false) Integer quizId,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) Boolean isActive
+            @RequestParam(required = false) Boolean isActive,
+            @PageableDefault(size = 100, sort = "id") Pageable pageable
     ) {
-        return ResponseEntity.ok(quizInterface.getQuizzes(courseId, quizId, title, isActive));
+        return ResponseEntity.ok(quizInterface.getQuizzes(courseId, quizId, title, isActive, pageable));
     }
 }
@@ -1,14 +1,18 @@
 package com.example.e_learning_system.Controller;
 import com.example.e_learning_system.Dto.UserVideoDTO;
 import com.example.e_learning_system.Dto.VideoDtos.VideoDto;
+import com.example.e_learning_system.Dto.VideoDtos.WatchHeartbeatDto;
 import com.example.e_learning_system.Entities.VideoEntity;
 import com.example.e_learning_system.Mapper.VideoMapper;
+import com.example.e_learning_system.Security.UserUtil;
 import com.example.e_learning_system.Service.Interfaces.UserVideo;
+import com.example.e_learning_system.Service.WatchTimeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,6 +21,7 @@ import java.util.stream.Collectors;
 public class UserVideoController {
 
     private final UserVideo userVideo;
+    private final WatchTimeService watchTimeService;
 
     @PostMapping("watchVideo")
     public ResponseEntity<String> markVideoAsWatched(@Valid @RequestBody UserVideoDTO userVideoDTO) {
@@ -29,9 +34,22 @@ public class UserVideoController {
         return ResponseEntity.ok("Video marked as un watched.");
     }
 
+    // Sent by the player every few seconds while a video plays; buffered, written in batches
+    @PostMapping("watchHeartbeat")
+    public ResponseEntity<String> recordWatchHeartbeat(@Valid @RequestBody WatchHeartbeatDto heartbeatDto) {
+        watchTimeService.recordHeartbeat(UserUtil.getCurrentUserId().intValue(), heartbeatDto);
+        return ResponseEntity.accepted().body("Heartbeat recorded.");
+    }
+
     @GetMapping("watched/{userId}")
     public ResponseEntity<Set<VideoDto>> getWatchedVideos(@PathVariable Integer userId) {
         Set<VideoDto> videos = userVideo.getWatchedVideosByUser(userId);
         return ResponseEntity.ok(videos);
     }
+
+    // Watched video ids of the user within one course, ascending
+    @GetMapping("watched/{userId}/course/{courseId}")
+    public ResponseEntity<List<Integer>> getWatchedVideoIds(@PathVariable Integer userId, @PathVariable Integer courseId) {
+        return ResponseEntity.ok(userVideo.getWatchedVideoIds(userId, courseId));
+    }
 }
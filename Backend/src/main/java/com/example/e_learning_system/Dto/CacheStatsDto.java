@@ -0,0 +1,23 @@
+package com.example.e_learning_system.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private String name;
+    private int size;
+    private int maxEntries;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long loads;
+    private long loadFailures;
+    private long evictions;
+    private long invalidations;
+}
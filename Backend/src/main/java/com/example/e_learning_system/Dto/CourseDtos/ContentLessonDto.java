@@ -0,0 +1,23 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import com.example.e_learning_system.Dto.AttachmentDtos.AttachmentSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentLessonDto {
+    private int videoId;
+    private String title;
+    private Integer durationSeconds;
+    private Integer thumbnailId;
+    private String status;
+    private int order;
+    private List<AttachmentSummaryDto> attachments;
+}
@@ -0,0 +1,21 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentModuleDto {
+    private int moduleId;
+    private String moduleName;
+    private String moduleDescription;
+    private int estimatedDuration;
+    private int moduleOrder;
+    private List<ContentLessonDto> lessons;
+}
@@ -0,0 +1,24 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Full course content tree (modules -> lessons -> attachments) for the course page.
+ * contentVersion identifies the snapshot; it changes whenever any part of the tree changes.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseContentDto {
+    private int courseId;
+    private String courseName;
+    private String description;
+    private long contentVersion;
+    private List<ContentModuleDto> modules;
+}
@@ -0,0 +1,43 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import com.example.e_learning_system.excpetions.ClientException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over courses. Encodes the
+ * sort property, its direction, and the (sortKey, id) of the last row served.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortProperty;
+    private final boolean ascending;
+    private final int lastId;
+    private final String lastValue;
+
+    public String encode() {
+        String raw = sortProperty + SEPARATOR + (ascending ? "a" : "d") + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CourseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // value goes last since it may itself contain the separator
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !("a".equals(parts[1]) || "d".equals(parts[1]))) {
+                throw ClientException.badRequest("Invalid cursor");
+            }
+            return new CourseCursor(parts[0], "a".equals(parts[1]), Integer.parseInt(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw ClientException.badRequest("Invalid cursor");
+        }
+    }
+}
@@ -16,7 +16,7 @@ import java.util.Set;
 import com.example.e_learning_system.Config.Category;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CourseDetailsDto {
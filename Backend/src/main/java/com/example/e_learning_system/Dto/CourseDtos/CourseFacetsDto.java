@@ -0,0 +1,25 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import com.example.e_learning_system.Config.Category;
+import com.example.e_learning_system.Config.DifficultyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Per-value result counts for the course filter sidebar, computed for the current filter.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseFacetsDto {
+    private long total;
+    private Map<Category, Long> categories;
+    private Map<DifficultyLevel, Long> difficultyLevels;
+    private Map<String, Long> tags;
+    private Map<String, Long> priceBuckets; // "free", "0-25", "25-50", "50-100", "100+"
+}
@@ -0,0 +1,21 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseStatsDto {
+    private int courseId;
+    private int enrolledCount;
+    private double averageRating;
+    private int reviewCount;
+
+    public static CourseStatsDto empty(int courseId) {
+        return new CourseStatsDto(courseId, 0, 0.0, 0);
+    }
+}
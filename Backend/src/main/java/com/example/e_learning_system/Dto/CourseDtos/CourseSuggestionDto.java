@@ -0,0 +1,17 @@
+package com.example.e_learning_system.Dto.CourseDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSuggestionDto {
+    private String text;
+    private String type; // "course", "tag", "category", "instructor"
+    private Integer courseId; // only set for course suggestions
+    private long popularity;
+}
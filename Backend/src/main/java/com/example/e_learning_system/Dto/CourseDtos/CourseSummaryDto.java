@@ -16,7 +16,7 @@ import java.util.Set;
 
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CourseSummaryDto {
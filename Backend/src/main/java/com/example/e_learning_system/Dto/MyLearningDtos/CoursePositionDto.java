@@ -0,0 +1,34 @@
+package com.example.e_learning_system.Dto.MyLearningDtos;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Where a learner left off in a course. Clients send moduleId, videoId and
+ * positionSeconds; names and updatedAt are filled in on reads.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePositionDto {
+    private Integer courseId;
+    private Integer moduleId;
+    private String moduleName;
+
+    @NotNull(message = "Video ID must not be null")
+    private Integer videoId;
+    private String lessonTitle;
+
+    @NotNull
+    @Min(0)
+    private Integer positionSeconds;
+
+    private LocalDateTime updatedAt;
+}
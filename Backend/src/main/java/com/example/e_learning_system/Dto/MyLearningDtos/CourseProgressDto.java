@@ -0,0 +1,42 @@
+package com.example.e_learning_system.Dto.MyLearningDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one user in one course, read from user_course_progress or computed by LearningProgressService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseProgressDto {
+    private int userId;
+    private int courseId;
+    private int totalModules;
+    private int totalLessons;
+    private int watchedLessons;
+    private int totalQuizzes;
+    private int completedQuizzes;
+    private double progressPercentage;
+    // Last watched lesson or quiz submission, when known
+    private LocalDateTime lastActivityAt;
+
+    /**
+     * Lesson and quiz completion are averaged when both have started;
+     * otherwise whichever one has progress counts alone.
+     */
+    public static double progressPercentage(int watchedLessons, int totalLessons,
+                                            int completedQuizzes, int totalQuizzes) {
+        double videoProgress = totalLessons > 0 ? (watchedLessons * 100.0) / totalLessons : 0.0;
+        double quizProgress = totalQuizzes > 0 ? (completedQuizzes * 100.0) / totalQuizzes : 0.0;
+        if (quizProgress > 0 && videoProgress > 0) {
+            return (quizProgress + videoProgress) / 2.0;
+        }
+        return Math.max(quizProgress, videoProgress);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.e_learning_system.Dto.MyLearningDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Consecutive days of learning activity of one user
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LearningStreakDto {
+    private Integer userId;
+    private int currentStreak;
+    private int longestStreak;
+    private LocalDate lastActiveDay;
+}
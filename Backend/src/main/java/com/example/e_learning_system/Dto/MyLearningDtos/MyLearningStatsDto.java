@@ -22,4 +22,5 @@ public class MyLearningStatsDto {
     private Double averageProgressPercentage;
     private Integer certificatesEarned;
     private Integer currentStreak;
+    private Integer longestStreak;
 }
@@ -0,0 +1,19 @@
+package com.example.e_learning_system.Dto.MyLearningDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the public streak leaderboard; activity dates stay private to the user
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreakLeaderboardEntryDto {
+    private Integer userId;
+    private int currentStreak;
+    private int longestStreak;
+}
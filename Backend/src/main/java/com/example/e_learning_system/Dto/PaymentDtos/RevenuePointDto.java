@@ -0,0 +1,24 @@
+package com.example.e_learning_system.Dto.PaymentDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Completed course payments of one period (day, week or month starting at periodStart) in one currency
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenuePointDto {
+    private LocalDate periodStart;
+    private String currency;
+    private long payments;
+    private BigDecimal grossAmount;
+    private BigDecimal netAmount;
+}
@@ -0,0 +1,35 @@
+package com.example.e_learning_system.Dto.VideoDtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Periodic playback report from the video player
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WatchHeartbeatDto {
+    @NotNull(message = "Video ID must not be null")
+    private Integer videoId;
+
+    // Longest video position accepted, 24 hours; the service further clips to the video's duration
+    public static final int MAX_POSITION_SECONDS = 86_400;
+
+    // Playhead position when the heartbeat was sent
+    @NotNull
+    @Min(0)
+    @Max(MAX_POSITION_SECONDS)
+    private Integer positionSeconds;
+
+    // Seconds played since the previous heartbeat, ending at positionSeconds
+    @NotNull
+    @Min(0)
+    private Integer playedSeconds;
+}
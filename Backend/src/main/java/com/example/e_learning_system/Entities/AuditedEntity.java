@@ -0,0 +1,68 @@
+package com.example.e_learning_system.Entities;
+
+import com.example.e_learning_system.AuditListener.AuditListener;
+import jakarta.persistence.*;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.*;
+
+/**
+ * Timestamps and audit hooks shared by every entity. The id mapping lives in the
+ * subclasses: {@link BaseEntity} uses an identity column, while high-volume tables
+ * declare a pooled sequence so Hibernate can batch their inserts.
+ */
+@Getter
+@Setter
+@MappedSuperclass
+@EntityListeners({AuditingEntityListener.class, AuditListener.class})
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public abstract class AuditedEntity {
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private Map<String, Object> oldState;
+
+    public abstract int getId();
+
+    @PostLoad
+    public void postLoad() {
+        this.oldState = AuditListener.extractData(this);
+    }
+
+    @Transient
+    public String getEntityType() {
+        return "BaseEntity";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuditedEntity that = (AuditedEntity) o;
+
+        if (this.getId() == 0 || that.getId() == 0) return false;
+
+        return this.getId() == that.getId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(getId());
+    }
+
+}
@@ -22,12 +22,27 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @Table(name = "courses")
+@NamedEntityGraph(
+        name = Course.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("tags"),
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode("thumbnail"),
+                @NamedAttributeNode(value = "courseModules", subgraph = "courseModules.module")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "courseModules.module", attributeNodes = @NamedAttributeNode(value = "module", subgraph = "module.moduleVideos")),
+                @NamedSubgraph(name = "module.moduleVideos", attributeNodes = @NamedAttributeNode("moduleVideos"))
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 public class Course extends BaseEntity {
 
+    /** Everything the course detail page renders: tags, instructor, thumbnail and modules with their video links */
+    public static final String DETAIL_GRAPH = "Course.detail";
+
 
     //! state enum
     //! access mode
@@ -0,0 +1,43 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ranking score of one course among its teacher's courses. Rows are written through
+ * {@link com.example.e_learning_system.Repository.CourseRankRepository}, never through the entity itself.
+ */
+@Entity
+@Table(name = "course_rank")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseRank {
+
+    @Id
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Column(name = "created_by", nullable = false)
+    private Integer createdBy;
+
+    @Column(name = "enrolled_count", nullable = false)
+    private int enrolledCount;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "recent_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal recentRevenue;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,62 @@
+package com.example.e_learning_system.Entities;
+
+import com.example.e_learning_system.Config.Currency;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Completed payments of one course on one day in one currency. Rows are written through
+ * {@link com.example.e_learning_system.Repository.CourseRevenueDailyRepository}, never through the entity itself.
+ */
+@Entity
+@Table(name = "course_revenue_daily")
+@IdClass(CourseRevenueDaily.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseRevenueDaily {
+
+    @Id
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "currency", columnDefinition = "currency_type")
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    private Currency currency;
+
+    @Column(name = "payment_count", nullable = false)
+    private int paymentCount;
+
+    @Column(name = "gross_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal grossAmount;
+
+    @Column(name = "net_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal netAmount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer courseId;
+        private LocalDate day;
+        private Currency currency;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model holding precomputed catalog numbers for a course.
+ * Rows are written through {@link com.example.e_learning_system.Repository.CourseStatsRepository}
+ * delta upserts, never through the entity itself.
+ */
+@Entity
+@Table(name = "course_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseStats {
+
+    @Id
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Column(name = "enrolled_count", nullable = false)
+    private int enrolledCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private int ratingCount;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    public double getAverageRating() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0;
+    }
+}
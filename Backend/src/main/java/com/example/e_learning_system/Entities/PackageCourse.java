@@ -11,7 +11,13 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-public class PackageCourse extends BaseEntity {
+public class PackageCourse extends AuditedEntity {
+
+    // Pooled: Hibernate reserves 50 ids per sequence call and batches the inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "package_courses_id_seq")
+    @SequenceGenerator(name = "package_courses_id_seq", sequenceName = "package_courses_id_seq", allocationSize = 50)
+    private int id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "package_id", nullable = false)
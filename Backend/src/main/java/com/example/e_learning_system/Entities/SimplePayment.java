@@ -1,5 +1,6 @@
 package com.example.e_learning_system.Entities;
 
+import com.example.e_learning_system.Config.Currency;
 import com.example.e_learning_system.Config.PaymentType;
 import com.example.e_learning_system.Config.SimplePaymentStatus;
 import com.example.e_learning_system.Config.SimplePaymentType;
@@ -54,6 +55,12 @@ public class SimplePayment extends BaseEntity {
     @Column(name = "final_amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal finalAmount;
 
+    // Currency the payment was made in: the course's currency at purchase time
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", columnDefinition = "currency_type")
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    private Currency currency;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "promotion_code_id")
     private PromotionCode promotionCode;
@@ -0,0 +1,41 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily activity bitmap of one user, maintained by
+ * {@link com.example.e_learning_system.Service.LearningStreakService}.
+ */
+@Entity
+@Table(name = "user_activity_days")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserActivityDays {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    // Unsigned big-endian bitmap; bit 0 is lastActiveDay, bit n is n days earlier
+    @Column(name = "days")
+    private byte[] days;
+
+    @Column(name = "last_active_day")
+    private LocalDate lastActiveDay;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "longest_streak", nullable = false)
+    private int longestStreak;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -17,7 +17,13 @@ import org.hibernate.type.SqlTypes;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-public class UserCourseAccess extends BaseEntity {
+public class UserCourseAccess extends AuditedEntity {
+
+    // Pooled: Hibernate reserves 50 ids per sequence call and batches the inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_course_access_id_seq")
+    @SequenceGenerator(name = "user_course_access_id_seq", sequenceName = "user_course_access_id_seq", allocationSize = 50)
+    private int id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
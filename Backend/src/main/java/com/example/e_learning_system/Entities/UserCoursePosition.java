@@ -0,0 +1,50 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Last playback position of one user in one course. Rows are written behind by
+ * {@link com.example.e_learning_system.Service.CoursePositionService}, never through the entity itself.
+ */
+@Entity
+@Table(name = "user_course_position")
+@IdClass(UserCoursePosition.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCoursePosition {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Column(name = "module_id")
+    private Integer moduleId;
+
+    @Column(name = "video_id", nullable = false)
+    private Integer videoId;
+
+    @Column(name = "position_seconds", nullable = false)
+    private int positionSeconds;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer userId;
+        private Integer courseId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Read model holding one user's lesson/quiz progress in one course.
+ * Rows are written through {@link com.example.e_learning_system.Repository.UserCourseProgressRepository}
+ * delta updates and refreshes, never through the entity itself.
+ */
+@Entity
+@Table(name = "user_course_progress")
+@IdClass(UserCourseProgress.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCourseProgress {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Column(name = "total_modules", nullable = false)
+    private int totalModules;
+
+    @Column(name = "watched_lessons", nullable = false)
+    private int watchedLessons;
+
+    @Column(name = "total_lessons", nullable = false)
+    private int totalLessons;
+
+    @Column(name = "completed_quizzes", nullable = false)
+    private int completedQuizzes;
+
+    @Column(name = "total_quizzes", nullable = false)
+    private int totalQuizzes;
+
+    @Column(name = "progress_pct", nullable = false)
+    private double progressPct;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer userId;
+        private Integer courseId;
+    }
+}
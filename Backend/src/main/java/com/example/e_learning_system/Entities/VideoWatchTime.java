@@ -0,0 +1,54 @@
+package com.example.e_learning_system.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Accumulated playback of one user on one video. Rows are written in batches by
+ * {@link com.example.e_learning_system.Service.WatchTimeService}, never through the entity itself.
+ */
+@Entity
+@Table(name = "user_video_watch_time")
+@IdClass(VideoWatchTime.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoWatchTime {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "video_id")
+    private Integer videoId;
+
+    @Column(name = "watched_seconds", nullable = false)
+    private long watchedSeconds;
+
+    // One bit per WatchTimeBuffer.BUCKET_SECONDS of the video, java.util.BitSet byte order
+    @Column(name = "coverage")
+    private byte[] coverage;
+
+    @Column(name = "covered_buckets", nullable = false)
+    private int coveredBuckets;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer userId;
+        private Integer videoId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.e_learning_system.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the course write paths. Listeners that keep derived state
+ * (search indexes, caches) should react after the transaction commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CourseChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        ACTIVATION_CHANGED,
+        MODULES_CHANGED,
+        // enrollment or feedback counters (enrolled count, rating, reviews)
+        STATS_CHANGED,
+        DELETED
+    }
+
+    private final int courseId;
+    private final ChangeType changeType;
+}
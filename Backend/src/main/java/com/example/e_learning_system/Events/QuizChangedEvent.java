@@ -0,0 +1,17 @@
+package com.example.e_learning_system.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a quiz, its questions or options are edited. Compiled answer keys
+ * of the quiz are dropped after the transaction commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class QuizChangedEvent {
+
+    private final int quizId;
+}
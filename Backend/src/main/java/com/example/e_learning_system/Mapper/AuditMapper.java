@@ -1,7 +1,7 @@
 package com.example.e_learning_system.Mapper;
 
 import com.example.e_learning_system.Dto.AuditLogDTO;
-import com.example.e_learning_system.Entities.BaseEntity;
+import com.example.e_learning_system.Entities.AuditedEntity;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -9,7 +9,7 @@ import java.util.*;
 @Component
 public class AuditMapper {
 
-    public AuditLogDTO EntityToDto(BaseEntity entity, Map<String, Object> oldData,
+    public AuditLogDTO EntityToDto(AuditedEntity entity, Map<String, Object> oldData,
                                    Map<String, Object> newData, String action) {
 
         Map<String, Object> changes = new HashMap<>();
@@ -69,7 +69,7 @@ public class AuditMapper {
     private Object serializeValue(Object value) {
         if (value == null) return null;
 
-        if (value instanceof BaseEntity base) {
+        if (value instanceof AuditedEntity base) {
             return base.getId();
         }
 
@@ -19,6 +19,10 @@ import com.example.e_learning_system.Repository.TagsRepository;
 import com.example.e_learning_system.excpetions.BaseException;
 import com.fasterxml.jackson.databind.JsonSerializable.Base;
 import com.example.e_learning_system.Config.Category;
+import com.example.e_learning_system.Config.CourseStatus;
+import com.example.e_learning_system.Config.Currency;
+import com.example.e_learning_system.Config.DifficultyLevel;
+import jakarta.persistence.Tuple;
 import java.math.BigDecimal;
 import java.util.Collections;
 
@@ -123,6 +127,46 @@ public class CourseMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps a summary projection row (see CourseRepository.findAllCourseSummaries) to CourseSummaryDto.
+     * Tags, thumbnail url and stats are filled in by the caller.
+     */
+    public static CourseSummaryDto fromSummaryTupleToCourseSummaryDto(Tuple row) {
+        if (row == null) {
+            return null;
+        }
+
+        Boolean isActive = row.get("isActive", Boolean.class);
+        Integer duration = row.get("estimatedDurationInHours", Integer.class);
+        return CourseSummaryDto.builder()
+                .id(row.get("id", Integer.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .status(row.get("status", CourseStatus.class))
+                .difficultyLevel(row.get("difficultyLevel", DifficultyLevel.class))
+                .isActive(Boolean.TRUE.equals(isActive))
+                .oneTimePrice(row.get("oneTimePrice", BigDecimal.class))
+                .currency(row.get("currency", Currency.class))
+                .thumbnail(row.get("thumbnailId", Integer.class))
+                .instructor(row.get("instructor", String.class))
+                .estimatedDurationInHours(duration != null ? duration : 0)
+                .category(row.get("category", Category.class))
+                .build();
+    }
+
+    /**
+     * Maps a list of summary projection rows to a list of CourseSummaryDto
+     */
+    public static List<CourseSummaryDto> fromSummaryTuplesToCourseSummaryDtos(List<Tuple> rows) {
+        if (rows == null) {
+            return Collections.emptyList();
+        }
+
+        return rows.stream()
+                .map(CourseMapper::fromSummaryTupleToCourseSummaryDto)
+                .collect(Collectors.toList());
+    }
+
     // ====== DTO -> ENTITY ======
 
     /**
@@ -29,6 +29,7 @@ public class SimplePaymentMapper {
                 .amount(dto.getAmount())
                 .discountAmount(BigDecimal.ZERO)
                 .finalAmount(dto.getAmount())
+                .currency(course != null ? course.getCurrency() : null)
                 .promotionCode(promotionCode)
                 .status(SimplePaymentStatus.PENDING)
                 .subscriptionDurationMonths(dto.getSubscriptionDurationMonths())
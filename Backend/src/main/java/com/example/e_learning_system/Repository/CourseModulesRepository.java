@@ -3,11 +3,13 @@ package com.example.e_learning_system.Repository;
 import com.example.e_learning_system.Entities.Course;
 import com.example.e_learning_system.Entities.CourseModules;
 import com.example.e_learning_system.Entities.Module;
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +45,45 @@ public interface CourseModulesRepository extends JpaRepository<CourseModules, In
     List<CourseModules> findByIsActive(boolean isActive);
 
     Optional<CourseModules> findByCourseIdAndModuleId(Integer courseId, Integer moduleId);
+
+    // Courses the module belongs to
+    @Query("SELECT DISTINCT cm.course.id FROM CourseModules cm WHERE cm.module.id = :moduleId")
+    List<Integer> findCourseIdsByModuleId(@Param("moduleId") Integer moduleId);
+
+    // Active modules of a course in order, as content tree rows
+    @Query("SELECT m.id AS moduleId, m.name AS moduleName, m.description AS moduleDescription, " +
+           "m.estimatedDuration AS estimatedDuration, cm.moduleOrder AS moduleOrder " +
+           "FROM CourseModules cm JOIN cm.module m " +
+           "WHERE cm.course.id = :courseId AND cm.isActive = true ORDER BY cm.moduleOrder")
+    List<Tuple> findContentModulesByCourseId(@Param("courseId") Integer courseId);
+
+    // [course_id, module_count, lesson_count] per course over active course modules; lessons are
+    // distinct active videos linked by active module videos
+    @Query(value = "SELECT cm.course_id, COUNT(DISTINCT cm.module_id), COUNT(DISTINCT v.id) " +
+           "FROM course_modules cm " +
+           "LEFT JOIN module_videos mv ON mv.module_id = cm.module_id AND mv.is_active = true " +
+           "LEFT JOIN videos v ON v.id = mv.video_id AND v.is_active = true " +
+           "WHERE cm.course_id IN (:courseIds) AND cm.is_active = true " +
+           "GROUP BY cm.course_id", nativeQuery = true)
+    List<Object[]> countLessonsByCourseIds(@Param("courseIds") Collection<Integer> courseIds);
+
+    // [course_id, module_count, lesson_count] per course over active course modules and
+    // their active module videos, the content counts shown to teachers
+    @Query(value = "SELECT cm.course_id, COUNT(DISTINCT cm.module_id), COUNT(mv.video_id) " +
+           "FROM course_modules cm " +
+           "LEFT JOIN module_videos mv ON mv.module_id = cm.module_id AND mv.is_active = true " +
+           "WHERE cm.course_id IN (:courseIds) AND cm.is_active = true " +
+           "GROUP BY cm.course_id", nativeQuery = true)
+    List<Object[]> countActiveContentByCourseIds(@Param("courseIds") Collection<Integer> courseIds);
+
+    // [user_id, course_id, watched_count] per (user, course); only lessons counted by countLessonsByCourseIds
+    @Query(value = "SELECT uwv.user_id, cm.course_id, COUNT(DISTINCT uwv.video_id) " +
+           "FROM user_watched_videos uwv " +
+           "JOIN videos v ON v.id = uwv.video_id AND v.is_active = true " +
+           "JOIN module_videos mv ON mv.video_id = uwv.video_id AND mv.is_active = true " +
+           "JOIN course_modules cm ON cm.module_id = mv.module_id AND cm.is_active = true " +
+           "WHERE uwv.user_id IN (:userIds) AND cm.course_id IN (:courseIds) " +
+           "GROUP BY uwv.user_id, cm.course_id", nativeQuery = true)
+    List<Object[]> countWatchedLessons(@Param("userIds") Collection<Integer> userIds,
+                                       @Param("courseIds") Collection<Integer> courseIds);
 }
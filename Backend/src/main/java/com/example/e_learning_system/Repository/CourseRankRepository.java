@@ -0,0 +1,28 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.CourseRank;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface CourseRankRepository extends JpaRepository<CourseRank, Integer> {
+
+    /** Ids of the teacher's best ranked courses, best first */
+    @Query("SELECT r.courseId FROM CourseRank r WHERE r.createdBy = :teacherId ORDER BY r.score DESC, r.courseId")
+    List<Integer> findTopCourseIdsByCreatedBy(@Param("teacherId") Integer teacherId, Pageable pageable);
+
+    @Transactional
+    @Query(value = "SELECT refresh_course_rank(:courseId)", nativeQuery = true)
+    int refreshCourse(@Param("courseId") Integer courseId);
+
+    /** Recompute every row, moving the recent revenue window */
+    @Transactional
+    @Query(value = "SELECT refresh_course_rank(NULL)", nativeQuery = true)
+    int refreshAll();
+}
@@ -7,12 +7,17 @@ import com.example.e_learning_system.Config.CourseStatus;
 import com.example.e_learning_system.Config.DifficultyLevel;
 import com.example.e_learning_system.Entities.Course;
 import com.example.e_learning_system.Entities.UserEntity;
+import jakarta.persistence.Tuple;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Integer> {
@@ -49,18 +54,67 @@ public interface CourseRepository extends JpaRepository<Course, Integer> {
     @Query("SELECT c FROM Course c WHERE c.status = 'PUBLISHED' AND c.isActive = true")
     List<Course> findPublishedAndActiveCourses();
 
+    // Published courses with the associations the suggest index needs, in one query
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.tags LEFT JOIN FETCH c.createdBy " +
+        "WHERE c.status = 'PUBLISHED' AND c.isActive = true")
+    List<Course> findPublishedWithTagsAndCreator();
+
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.tags LEFT JOIN FETCH c.createdBy WHERE c.id = :id")
+    Optional<Course> findWithTagsAndCreatorById(@Param("id") Integer id);
+
+    // Catalog listing rows, projected straight from the columns CourseSummaryDto needs
+    @Query("SELECT c.id AS id, c.name AS name, c.description AS description, c.status AS status, " +
+        "c.difficultyLevel AS difficultyLevel, c.isActive AS isActive, c.oneTimePrice AS oneTimePrice, " +
+        "c.currency AS currency, th.id AS thumbnailId, u.name AS instructor, " +
+        "c.estimatedDrationInHours AS estimatedDurationInHours, c.category AS category " +
+        "FROM Course c LEFT JOIN c.thumbnail th LEFT JOIN c.createdBy u")
+    List<Tuple> findAllCourseSummaries();
+
+    // Tags for a batch of courses as [courseId, name, description, color]
+    @Query("SELECT c.id AS courseId, t.name AS name, t.description AS description, t.color AS color " +
+        "FROM Course c JOIN c.tags t WHERE c.id IN :courseIds")
+    List<Tuple> findTagsByCourseIds(@Param("courseIds") Collection<Integer> courseIds);
+
+    // Course detail page in one round trip, see Course.DETAIL_GRAPH
+    @EntityGraph(Course.DETAIL_GRAPH)
+    Optional<Course> findDetailById(Integer id);
+
+    // Courses with their creator, for enrolled-course cards
+    @EntityGraph(attributePaths = "createdBy")
+    List<Course> findWithCreatorByIdIn(Collection<Integer> ids);
+
+    // [name, description, content_version] of a course; content_version is bumped by triggers (V20)
+    // whenever its module/video/attachment tree changes
+    @Query(value = "SELECT c.name, c.description, c.content_version FROM courses c WHERE c.id = :id", nativeQuery = true)
+    List<Object[]> findContentHeaderById(@Param("id") Integer id);
+
     // Find courses by creator and status
     List<Course> findByCreatedByAndStatus(UserEntity createdBy, CourseStatus status);
 
-    // Search courses by query (exact match or like in title, description, tags, category)
-    @Query("SELECT DISTINCT c FROM Course c " +
-        "LEFT JOIN c.tags t " +
-        "LEFT JOIN c.createdBy instructor " +
-        "WHERE c.isActive = true AND c.status = 'PUBLISHED' AND " +
-        "(LOWER(c.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(c.description) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(t.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(CAST(c.category AS string)) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-        "LOWER(instructor.name) LIKE LOWER(CONCAT('%', :query, '%')))" )
-    List<Course> searchCourses(@org.springframework.data.repository.query.Param("query") String query);
+    // Full-text search over the weighted search_vector, with trigram fallback for partial words.
+    // Rows are [course_id, rank, match_type] ordered by relevance. pat is the lowered query with
+    // LIKE wildcards escaped; category_pat also turns '_' into a space, as search_text stores categories.
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) || websearch_to_tsquery('simple', :query) AS tsq, " +
+        "                  lower(:query) AS lq, " +
+        "                  '%' || replace(replace(replace(lower(:query), '\\', '\\\\'), '%', '\\%'), '_', '\\_') || '%' AS pat, " +
+        "                  '%' || replace(replace(replace(lower(:query), '\\', '\\\\'), '%', '\\%'), '_', ' ') || '%' AS category_pat) " +
+        "SELECT c.id, " +
+        "       ts_rank(c.search_vector, q.tsq) + similarity(c.search_text, q.lq) AS rank, " +
+        "       CASE " +
+        "           WHEN lower(c.name) = q.lq THEN 'title_exact' " +
+        "           WHEN lower(c.name) LIKE q.pat ESCAPE '\\' THEN 'title' " +
+        "           WHEN EXISTS (SELECT 1 FROM users u WHERE u.id = c.created_by AND lower(u.name) LIKE q.pat ESCAPE '\\') THEN 'instructor' " +
+        "           WHEN EXISTS (SELECT 1 FROM course_tags ct JOIN tags t ON t.id = ct.tag_id " +
+        "                        WHERE ct.course_id = c.id AND lower(t.name) LIKE q.pat ESCAPE '\\') THEN 'tag' " +
+        "           WHEN lower(replace(c.category, '_', ' ')) LIKE q.category_pat ESCAPE '\\' THEN 'category' " +
+        "           WHEN lower(c.description) LIKE q.pat ESCAPE '\\' THEN 'description' " +
+        "           ELSE 'other' " +
+        "       END AS match_type " +
+        "FROM courses c, q " +
+        "WHERE c.is_active = true AND c.status = 'PUBLISHED' " +
+        "  AND (c.search_vector @@ q.tsq OR c.search_text LIKE q.pat ESCAPE '\\') " +
+        "ORDER BY rank DESC, c.id " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<Object[]> searchCourseMatches(@Param("query") String query, @Param("limit") int limit);
 }
@@ -0,0 +1,49 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.CourseRevenueDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseRevenueDailyRepository extends JpaRepository<CourseRevenueDaily, CourseRevenueDaily.Key> {
+
+    /**
+     * Add (sign 1) or remove (sign -1) the payment to its course's bucket of the day. Day and
+     * currency are taken from the payment row, as {@link #rebuild} does.
+     */
+    @Query(value = "SELECT apply_course_revenue_payment(:paymentId, :sign)", nativeQuery = true)
+    int applyPayment(@Param("paymentId") Integer paymentId, @Param("sign") int sign);
+
+    // [course_id, gross_total, gross_since] per course
+    @Query(value = "SELECT r.course_id, SUM(r.gross_amount), " +
+            "COALESCE(SUM(r.gross_amount) FILTER (WHERE r.day >= :since), 0) " +
+            "FROM course_revenue_daily r WHERE r.course_id IN (:courseIds) GROUP BY r.course_id", nativeQuery = true)
+    List<Object[]> sumByCourseIds(@Param("courseIds") Collection<Integer> courseIds, @Param("since") LocalDate since);
+
+    // [period_start, currency, payment_count, gross_amount, net_amount] per period and currency
+    @Query(value = "SELECT CAST(date_trunc(:unit, r.day) AS DATE), CAST(r.currency AS VARCHAR), " +
+            "SUM(r.payment_count), SUM(r.gross_amount), SUM(r.net_amount) " +
+            "FROM course_revenue_daily r WHERE r.course_id IN (:courseIds) AND r.day BETWEEN :from AND :to " +
+            "GROUP BY 1, 2 ORDER BY 1, 2", nativeQuery = true)
+    List<Object[]> findSeriesByCourseIds(@Param("courseIds") Collection<Integer> courseIds, @Param("unit") String unit,
+                                         @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Same as findSeriesByCourseIds over every course
+    @Query(value = "SELECT CAST(date_trunc(:unit, r.day) AS DATE), CAST(r.currency AS VARCHAR), " +
+            "SUM(r.payment_count), SUM(r.gross_amount), SUM(r.net_amount) " +
+            "FROM course_revenue_daily r WHERE r.day BETWEEN :from AND :to " +
+            "GROUP BY 1, 2 ORDER BY 1, 2", nativeQuery = true)
+    List<Object[]> findSeries(@Param("unit") String unit, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** Recompute the buckets of days in [from, to] from simple_payments; null bounds are open */
+    @Transactional
+    @Query(value = "SELECT rebuild_course_revenue_daily(:from, :to)", nativeQuery = true)
+    int rebuild(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,49 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.CourseStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseStatsRepository extends JpaRepository<CourseStats, Integer> {
+
+    @Modifying
+    @Query(value = "INSERT INTO course_stats (course_id, enrolled_count) VALUES (:courseId, GREATEST(:delta, 0)) " +
+            "ON CONFLICT (course_id) DO UPDATE SET " +
+            "enrolled_count = GREATEST(course_stats.enrolled_count + :delta, 0), updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int applyEnrollmentDelta(@Param("courseId") Integer courseId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO course_stats (course_id, rating_sum, rating_count, review_count) " +
+            "VALUES (:courseId, GREATEST(:ratingSumDelta, 0), GREATEST(:ratingCountDelta, 0), GREATEST(:reviewCountDelta, 0)) " +
+            "ON CONFLICT (course_id) DO UPDATE SET " +
+            "rating_sum = GREATEST(course_stats.rating_sum + :ratingSumDelta, 0), " +
+            "rating_count = GREATEST(course_stats.rating_count + :ratingCountDelta, 0), " +
+            "review_count = GREATEST(course_stats.review_count + :reviewCountDelta, 0), " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int applyFeedbackDelta(@Param("courseId") Integer courseId,
+                           @Param("ratingSumDelta") long ratingSumDelta,
+                           @Param("ratingCountDelta") int ratingCountDelta,
+                           @Param("reviewCountDelta") int reviewCountDelta);
+
+    /** Recompute every row from user_course_access and user_feedback */
+    @Modifying
+    @Query(value = "INSERT INTO course_stats (course_id, enrolled_count, rating_sum, rating_count, review_count, updated_at) " +
+            "SELECT c.id, COALESCE(e.enrolled_count, 0), COALESCE(f.rating_sum, 0), COALESCE(f.rating_count, 0), " +
+            "COALESCE(f.review_count, 0), CURRENT_TIMESTAMP " +
+            "FROM courses c " +
+            "LEFT JOIN (SELECT course_id, COUNT(*) AS enrolled_count FROM user_course_access " +
+            "           WHERE is_active = true GROUP BY course_id) e ON e.course_id = c.id " +
+            "LEFT JOIN (SELECT course_id, SUM(rating) AS rating_sum, COUNT(rating) AS rating_count, COUNT(*) AS review_count " +
+            "           FROM user_feedback WHERE is_active = true GROUP BY course_id) f ON f.course_id = c.id " +
+            "ON CONFLICT (course_id) DO UPDATE SET " +
+            "enrolled_count = EXCLUDED.enrolled_count, rating_sum = EXCLUDED.rating_sum, " +
+            "rating_count = EXCLUDED.rating_count, review_count = EXCLUDED.review_count, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int rebuildAll();
+}
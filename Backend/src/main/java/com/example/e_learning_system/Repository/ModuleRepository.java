@@ -3,8 +3,11 @@ package com.example.e_learning_system.Repository;
 import com.example.e_learning_system.Entities.Module;
 import com.example.e_learning_system.Entities.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,4 +28,8 @@ public interface ModuleRepository extends JpaRepository<Module, Integer> {
 
     // Find modules by creator and active status
     List<Module> findByCreatedByAndIsActive(UserEntity createdBy, boolean isActive);
+
+    // [id, name] per module
+    @Query("SELECT m.id, m.name FROM Module m WHERE m.id IN :ids")
+    List<Object[]> findNamesByIdIn(@Param("ids") Collection<Integer> ids);
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.example.e_learning_system.Repository;
 import com.example.e_learning_system.Entities.Module;
 import com.example.e_learning_system.Entities.ModuleVideos;
 import com.example.e_learning_system.Entities.VideoEntity;
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,4 +48,12 @@ public interface ModuleVideosRepository extends JpaRepository<ModuleVideos, Inte
     Optional<ModuleVideos> findByModuleAndVideo(Module module, VideoEntity video);
 
     Optional<ModuleVideos> findByModuleIdAndVideoId(int moduleId, int videoId);
+
+    // Active lessons of several modules, ordered within each module, as content tree rows
+    @Query("SELECT mv.module.id AS moduleId, mv.videoOrder AS videoOrder, v.id AS videoId, v.title AS title, " +
+           "v.durationSeconds AS durationSeconds, th.id AS thumbnailId, v.status AS status " +
+           "FROM ModuleVideos mv JOIN mv.video v LEFT JOIN v.thumbnail th " +
+           "WHERE mv.module.id IN :moduleIds AND mv.isActive = true AND v.isActive = true " +
+           "ORDER BY mv.module.id, mv.videoOrder")
+    List<Tuple> findContentLessonsByModuleIds(@Param("moduleIds") Collection<Integer> moduleIds);
 }
\ No newline at end of file
@@ -2,6 +2,14 @@ package com.example.e_learning_system.Repository;
 
 import com.example.e_learning_system.Entities.QuizOptionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface QuizOptionRepository extends JpaRepository<QuizOptionEntity, Integer> {
+
+    // [questionId, optionId, isCorrect] of every option of the quiz
+    @Query("SELECT o.question.id, o.id, o.isCorrect FROM QuizOptionEntity o WHERE o.question.quiz.id = :quizId")
+    List<Object[]> findAnswerRowsByQuizId(@Param("quizId") Integer quizId);
 }
@@ -2,10 +2,16 @@ package com.example.e_learning_system.Repository;
 
 import com.example.e_learning_system.Entities.QuizQuestionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface QuizQuestionRepository extends JpaRepository<QuizQuestionEntity, Integer> {
     List<QuizQuestionEntity> findByQuizId(Integer quizId);
 
+    // [questionId, questionMark] of the quiz, ordered by question id
+    @Query("SELECT q.id, q.questionMark FROM QuizQuestionEntity q WHERE q.quiz.id = :quizId ORDER BY q.id")
+    List<Object[]> findMarksByQuizId(@Param("quizId") Integer quizId);
+
 }
@@ -1,10 +1,29 @@
 package com.example.e_learning_system.Repository;
 
 import com.example.e_learning_system.Entities.QuizEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QuizRepository extends JpaRepository<QuizEntity, Integer> {
 
+    // [courseId, activeQuizCount] per course
+    @Query("SELECT q.course.id, COUNT(q) FROM QuizEntity q WHERE q.course.id IN :courseIds AND q.isActive = true GROUP BY q.course.id")
+    List<Object[]> countActiveByCourseIds(@Param("courseIds") Collection<Integer> courseIds);
+
+    // Null filters match every quiz; the title is matched case-insensitively anywhere (trigram-indexed).
+    // The caller escapes %, _ and \ in the title.
+    @Query("SELECT q FROM QuizEntity q WHERE " +
+           "(:courseId IS NULL OR q.course.id = :courseId) AND " +
+           "(:title IS NULL OR LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%')) ESCAPE '\\') AND " +
+           "(:isActive IS NULL OR q.isActive = :isActive)")
+    Page<QuizEntity> findWithFilters(@Param("courseId") Integer courseId,
+                                     @Param("title") String title,
+                                     @Param("isActive") Boolean isActive,
+                                     Pageable pageable);
 }
@@ -2,10 +2,22 @@ package com.example.e_learning_system.Repository;
 
 import com.example.e_learning_system.Entities.QuizSubmissionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QuizSubmissionRepository extends JpaRepository<QuizSubmissionEntity, Integer> {
     List<QuizSubmissionEntity> findByQuizId(Integer quizId);
     List<QuizSubmissionEntity> findByQuizIdAndUserId(Integer quizId, Integer userId);
+    boolean existsByQuizIdAndUserId(Integer quizId, Integer userId);
+
+    // [userId, courseId, completedQuizCount] per (user, course) over active quizzes; a quiz counts once
+    // however often it was submitted
+    @Query("SELECT s.user.id, q.course.id, COUNT(DISTINCT q.id) FROM QuizSubmissionEntity s JOIN s.quiz q " +
+           "WHERE s.user.id IN :userIds AND q.course.id IN :courseIds AND q.isActive = true " +
+           "GROUP BY s.user.id, q.course.id")
+    List<Object[]> countCompletedQuizzes(@Param("userIds") Collection<Integer> userIds,
+                                         @Param("courseIds") Collection<Integer> courseIds);
 }
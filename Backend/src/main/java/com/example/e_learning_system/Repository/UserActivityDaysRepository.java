@@ -0,0 +1,36 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.UserActivityDays;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserActivityDaysRepository extends JpaRepository<UserActivityDays, Integer> {
+
+    @Modifying
+    @Query(value = "INSERT INTO user_activity_days (user_id) VALUES (:userId) ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Integer userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM UserActivityDays a WHERE a.userId = :userId")
+    Optional<UserActivityDays> findForUpdate(@Param("userId") Integer userId);
+
+    List<UserActivityDays> findByUserIdIn(Collection<Integer> userIds);
+
+    /** Users whose streak is still alive (active on or after {@code since}), longest streak first */
+    @Query("SELECT a FROM UserActivityDays a WHERE a.lastActiveDay >= :since AND a.currentStreak > 0 " +
+           "ORDER BY a.currentStreak DESC, a.userId")
+    List<UserActivityDays> findLiveStreaks(@Param("since") LocalDate since, Pageable pageable);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,12 @@ public interface UserCourseAccessRepository extends JpaRepository<UserCourseAcce
     List<UserCourseAccess> findByCourseIdAndIsActiveTrue(Integer courseId);
        long countByCourseIdAndIsActiveTrue(Integer courseId);
 
+    // [courseId, activeEnrollments, activeEnrollmentsUpdatedSince] per course
+    @Query("SELECT uca.course.id, COUNT(uca), SUM(CASE WHEN uca.updatedAt > :since THEN 1 ELSE 0 END) " +
+           "FROM UserCourseAccess uca WHERE uca.course.id IN :courseIds AND uca.isActive = true GROUP BY uca.course.id")
+    List<Object[]> summarizeActiveByCourseIds(@Param("courseIds") Collection<Integer> courseIds,
+                                              @Param("since") LocalDateTime since);
+
     @Query("SELECT uca FROM UserCourseAccess uca WHERE uca.user.id = :userId AND uca.course.id = :courseId AND uca.isActive = true")
     Optional<UserCourseAccess> findActiveAccessByUserAndCourse(@Param("userId") Integer userId, @Param("courseId") Integer courseId);
 
@@ -46,4 +53,7 @@ public interface UserCourseAccessRepository extends JpaRepository<UserCourseAcce
     List<com.example.e_learning_system.Entities.Course> findAccessibleCoursesByUser(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
 
     boolean existsByUserIdAndCourseIdAndIsActiveTrue(Integer userId, Integer courseId);
+
+    @Query("SELECT uca.course.id FROM UserCourseAccess uca WHERE uca.user.id = :userId AND uca.course.id IN :courseIds AND uca.isActive = true")
+    List<Integer> findActiveCourseIdsByUser(@Param("userId") Integer userId, @Param("courseIds") Collection<Integer> courseIds);
 }
@@ -0,0 +1,14 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.UserCoursePosition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserCoursePositionRepository extends JpaRepository<UserCoursePosition, UserCoursePosition.Key> {
+
+    List<UserCoursePosition> findByUserIdAndCourseIdIn(Integer userId, Collection<Integer> courseIds);
+}
@@ -0,0 +1,83 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.UserCourseProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserCourseProgressRepository extends JpaRepository<UserCourseProgress, UserCourseProgress.Key> {
+
+    List<UserCourseProgress> findByUserIdAndCourseIdIn(Integer userId, Collection<Integer> courseIds);
+
+    // [course_id, learner_count, average_progress, completion_count] per course, active enrollments only
+    @Query(value = "SELECT p.course_id, COUNT(*), AVG(p.progress_pct), COUNT(*) FILTER (WHERE p.progress_pct >= 100) " +
+            "FROM user_course_progress p " +
+            "WHERE p.course_id IN (:courseIds) AND EXISTS (SELECT 1 FROM user_course_access a " +
+            "    WHERE a.user_id = p.user_id AND a.course_id = p.course_id AND a.is_active = true) " +
+            "GROUP BY p.course_id", nativeQuery = true)
+    List<Object[]> summarizeByCourseIds(@Param("courseIds") Collection<Integer> courseIds);
+
+    /** Apply a watched/unwatched video to the user's rows of every course containing it */
+    @Modifying
+    @Query(value = "UPDATE user_course_progress p SET " +
+            "watched_lessons = GREATEST(p.watched_lessons + :delta, 0), " +
+            "progress_pct = course_progress_pct(GREATEST(p.watched_lessons + :delta, 0), p.total_lessons, " +
+            "    p.completed_quizzes, p.total_quizzes), " +
+            "last_activity_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE p.user_id = :userId AND p.course_id IN (" +
+            "    SELECT cm.course_id FROM module_videos mv " +
+            "    JOIN videos v ON v.id = mv.video_id AND v.is_active = true " +
+            "    JOIN course_modules cm ON cm.module_id = mv.module_id AND cm.is_active = true " +
+            "    WHERE mv.video_id = :videoId AND mv.is_active = true)",
+            nativeQuery = true)
+    int applyWatchedDelta(@Param("userId") Integer userId, @Param("videoId") Integer videoId, @Param("delta") int delta);
+
+    /** Count a newly completed quiz in the user's row of the quiz's course */
+    @Modifying
+    @Query(value = "UPDATE user_course_progress p SET " +
+            "completed_quizzes = p.completed_quizzes + 1, " +
+            "progress_pct = course_progress_pct(p.watched_lessons, p.total_lessons, " +
+            "    p.completed_quizzes + 1, p.total_quizzes), " +
+            "last_activity_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE p.user_id = :userId " +
+            "AND p.course_id = (SELECT q.course_id FROM quizzes q WHERE q.id = :quizId AND q.is_active = true)",
+            nativeQuery = true)
+    int applyQuizCompleted(@Param("userId") Integer userId, @Param("quizId") Integer quizId);
+
+    /** Drop the user's row of the course unless another active access still covers it */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM user_course_progress p " +
+            "WHERE p.user_id = :userId AND p.course_id = :courseId AND NOT EXISTS (" +
+            "    SELECT 1 FROM user_course_access a " +
+            "    WHERE a.user_id = p.user_id AND a.course_id = p.course_id AND a.is_active = true)",
+            nativeQuery = true)
+    int deleteIfNoActiveAccess(@Param("userId") Integer userId, @Param("courseId") Integer courseId);
+
+    // The refresh_user_course_progress function writes, so these must not run read-only
+
+    @Transactional
+    @Query(value = "SELECT refresh_user_course_progress(:userId, :courseId)", nativeQuery = true)
+    int refreshUserCourse(@Param("userId") Integer userId, @Param("courseId") Integer courseId);
+
+    @Transactional
+    @Query(value = "SELECT refresh_user_course_progress(NULL, :courseId)", nativeQuery = true)
+    int refreshCourse(@Param("courseId") Integer courseId);
+
+    @Transactional
+    @Query(value = "SELECT COALESCE(SUM(refresh_user_course_progress(NULL, c.course_id)), 0) " +
+            "FROM (SELECT DISTINCT course_id FROM course_modules WHERE module_id = :moduleId) c",
+            nativeQuery = true)
+    long refreshCoursesContainingModule(@Param("moduleId") Integer moduleId);
+
+    /** Recompute every row of every active enrollment */
+    @Transactional
+    @Query(value = "SELECT refresh_user_course_progress(NULL, NULL)", nativeQuery = true)
+    int refreshAll();
+}
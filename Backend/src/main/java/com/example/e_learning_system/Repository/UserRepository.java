@@ -4,9 +4,13 @@ import com.example.e_learning_system.Entities.UserEntity;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -20,6 +24,25 @@ public interface UserRepository extends JpaRepository<UserEntity, Integer> {
     public Page<UserEntity> findAll(Pageable pageable);
     public Page<UserEntity> findByIsActiveTrue(Pageable pageable);
 
+    /** Mark a video watched without loading the user's watched set; returns 1 if it was not watched yet */
+    @Modifying
+    @Query(value = "INSERT INTO user_watched_videos (user_id, video_id) VALUES (:userId, :videoId) " +
+            "ON CONFLICT (user_id, video_id) DO NOTHING", nativeQuery = true)
+    int insertWatchedVideoIfAbsent(@Param("userId") Integer userId, @Param("videoId") Integer videoId);
+
+    /** Unmark a watched video without loading the user's watched set; returns 1 if it was watched */
+    @Modifying
+    @Query(value = "DELETE FROM user_watched_videos WHERE user_id = :userId AND video_id = :videoId", nativeQuery = true)
+    int deleteWatchedVideo(@Param("userId") Integer userId, @Param("videoId") Integer videoId);
+
+    // Ids of the videos of the course the user has watched, ascending
+    @Query(value = "SELECT DISTINCT uwv.video_id FROM user_watched_videos uwv " +
+            "JOIN module_videos mv ON mv.video_id = uwv.video_id " +
+            "JOIN course_modules cm ON cm.module_id = mv.module_id " +
+            "WHERE uwv.user_id = :userId AND cm.course_id = :courseId " +
+            "ORDER BY uwv.video_id", nativeQuery = true)
+    List<Integer> findWatchedVideoIdsInCourse(@Param("userId") Integer userId, @Param("courseId") Integer courseId);
+
 
 
 }
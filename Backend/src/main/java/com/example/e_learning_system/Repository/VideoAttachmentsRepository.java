@@ -3,9 +3,13 @@ package com.example.e_learning_system.Repository;
 import com.example.e_learning_system.Entities.Attachment;
 import com.example.e_learning_system.Entities.VideoAttachments;
 import com.example.e_learning_system.Entities.VideoEntity;
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +36,10 @@ public interface VideoAttachmentsRepository extends JpaRepository<VideoAttachmen
 
     // Check if video-attachment relationship exists
     boolean existsByVideoAndAttachment(VideoEntity video, Attachment attachment);
+
+    // Active attachments of several videos, as content tree rows (no file data)
+    @Query("SELECT va.video.id AS videoId, a.id AS attachmentId, a.title AS title " +
+           "FROM VideoAttachments va JOIN va.attachment a " +
+           "WHERE va.video.id IN :videoIds AND va.isActive = true ORDER BY va.video.id, a.id")
+    List<Tuple> findContentAttachmentsByVideoIds(@Param("videoIds") Collection<Integer> videoIds);
 }
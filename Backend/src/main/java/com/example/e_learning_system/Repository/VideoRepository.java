@@ -2,7 +2,12 @@ package com.example.e_learning_system.Repository;
 
 import com.example.e_learning_system.Entities.VideoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoRepository extends JpaRepository<VideoEntity,Integer> {
@@ -11,4 +16,26 @@ public interface VideoRepository extends JpaRepository<VideoEntity,Integer> {
     void deleteByVideoKey(String videoKey);
     Optional<VideoEntity> findByVideoKey(String videoKey);
 
+    // [id, durationSeconds] per video
+    @Query("SELECT v.id, v.durationSeconds FROM VideoEntity v WHERE v.id IN :ids")
+    List<Object[]> findDurationsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // [id, durationSeconds] of the video, only when the user holds a valid access to a course containing it
+    @Query(value = "SELECT v.id, v.duration_seconds FROM videos v WHERE v.id = :videoId AND EXISTS (" +
+            "    SELECT 1 FROM module_videos mv " +
+            "    JOIN course_modules cm ON cm.module_id = mv.module_id " +
+            "    JOIN user_course_access a ON a.course_id = cm.course_id " +
+            "    WHERE mv.video_id = v.id AND a.user_id = :userId AND a.is_active = true " +
+            "      AND (a.access_until IS NULL OR a.access_until > :now))",
+            nativeQuery = true)
+    List<Object[]> findDurationIfAccessible(@Param("videoId") Integer videoId, @Param("userId") Integer userId,
+                                            @Param("now") LocalDateTime now);
+
+    // [id, title] per video
+    @Query("SELECT v.id, v.title FROM VideoEntity v WHERE v.id IN :ids")
+    List<Object[]> findTitlesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT v FROM UserEntity u JOIN u.watchedVideos v WHERE u.id = :userId")
+    List<VideoEntity> findWatchedByUserId(@Param("userId") Integer userId);
+
 }
@@ -0,0 +1,28 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Entities.VideoWatchTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VideoWatchTimeRepository extends JpaRepository<VideoWatchTime, VideoWatchTime.Key> {
+
+    @Query("SELECT COALESCE(SUM(w.watchedSeconds), 0) FROM VideoWatchTime w WHERE w.userId = :userId")
+    long sumWatchedSecondsByUserId(@Param("userId") Integer userId);
+
+    // [course_id, watched_seconds] per course; a video shared by two modules of a course counts once
+    @Query(value = "SELECT c.course_id, SUM(w.watched_seconds) " +
+            "FROM user_video_watch_time w " +
+            "JOIN (SELECT DISTINCT cm.course_id, mv.video_id FROM course_modules cm " +
+            "      JOIN module_videos mv ON mv.module_id = cm.module_id " +
+            "      WHERE cm.course_id IN (:courseIds)) c ON c.video_id = w.video_id " +
+            "WHERE w.user_id = :userId " +
+            "GROUP BY c.course_id", nativeQuery = true)
+    List<Object[]> sumWatchedSecondsByCourse(@Param("userId") Integer userId,
+                                             @Param("courseIds") Collection<Integer> courseIds);
+}
@@ -2,7 +2,7 @@ package com.example.e_learning_system.Service;
 
 import com.example.e_learning_system.Dto.AuditLogDTO;
 import com.example.e_learning_system.Entities.AuditLogEntity;
-import com.example.e_learning_system.Entities.BaseEntity;
+import com.example.e_learning_system.Entities.AuditedEntity;
 import com.example.e_learning_system.Mapper.AuditMapper;
 import com.example.e_learning_system.Repository.AuditLogRepository;
 import com.example.e_learning_system.Service.Interfaces.AuditLog;
@@ -22,7 +22,7 @@ public class AuditLogService implements AuditLog {
 
     @Override
     @Transactional(propagation = Propagation.REQUIRED)
-    public void logChange(Long userId, BaseEntity entity, String action,
+    public void logChange(Long userId, AuditedEntity entity, String action,
                           Map<String, Object> oldData,
                           Map<String, Object> newData) {
 
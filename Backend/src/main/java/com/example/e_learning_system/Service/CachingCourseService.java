@@ -0,0 +1,172 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.CourseDtos.*;
+import com.example.e_learning_system.Dto.CursorPageDto;
+import com.example.e_learning_system.Dto.ModuleDtos.ModuleSummaryDto;
+import com.example.e_learning_system.Dto.OrderDtos.IdOrderDto;
+import com.example.e_learning_system.Service.Interfaces.CourseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CourseService seen by the controllers: catalog reads go through {@link CourseCatalogCache},
+ * everything else is passed straight to {@link CourseServiceImpl}. The write paths publish
+ * CourseChangedEvent, which invalidates the cache after commit.
+ *
+ * Cached DTOs are shared between requests, so every read hands out its own copy.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class CachingCourseService implements CourseService {
+
+    private final CourseServiceImpl delegate;
+    private final CourseCatalogCache catalogCache;
+
+    @Override
+    public List<CourseSummaryDto> getCourses() {
+        return copySummaries(catalogCache.getListing(delegate::getCourses, "all"));
+    }
+
+    @Override
+    public Page<CourseSummaryDto> getCourses(CourseFilterDto filterDto, Pageable pageable) {
+        return catalogCache.getListing(() -> delegate.getCourses(filterDto, pageable), "page", filterDto, pageable)
+                .map(CachingCourseService::copy);
+    }
+
+    @Override
+    public CourseFacetsDto getCourseFacets(CourseFilterDto filterDto) {
+        return copy(catalogCache.getListing(() -> delegate.getCourseFacets(filterDto), "facets", filterDto));
+    }
+
+    @Override
+    public CursorPageDto<CourseSummaryDto> getCoursesByCursor(CourseFilterDto filterDto, String cursor, Pageable pageable, boolean includeTotal) {
+        CursorPageDto<CourseSummaryDto> page = catalogCache.getListing(
+                () -> delegate.getCoursesByCursor(filterDto, cursor, pageable, includeTotal),
+                "cursor", filterDto, cursor, pageable, includeTotal);
+        return page.toBuilder().content(copySummaries(page.getContent())).build();
+    }
+
+    @Override
+    public CourseDetailsDto getCourseById(Integer id) {
+        return copy(catalogCache.getDetail(id, () -> delegate.getCourseById(id)));
+    }
+
+    @Override
+    public List<TagDto> getAllTags() {
+        List<TagDto> tags = catalogCache.getListing(delegate::getAllTags, "tags");
+        return tags.stream().map(CachingCourseService::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CourseSearchResultDto> searchCourses(String query) {
+        return delegate.searchCourses(query);
+    }
+
+    @Override
+    public CourseDetailsDto createCourse(CreateCourseDto request, Integer createdById) {
+        return delegate.createCourse(request, createdById);
+    }
+
+    @Override
+    public void updateCourse(UpdateCourseDto updateCourseDto, int courseId) {
+        delegate.updateCourse(updateCourseDto, courseId);
+    }
+
+    @Override
+    public void deleteCourse(Integer id) {
+        delegate.deleteCourse(id);
+    }
+
+    @Override
+    public void deactivateCourse(Integer id, boolean deactivate) {
+        delegate.deactivateCourse(id, deactivate);
+    }
+
+    @Override
+    public void addModuleToCourse(int courseId, int moduleId, int order) {
+        delegate.addModuleToCourse(courseId, moduleId, order);
+    }
+
+    @Override
+    public void removeModuleFromCourse(int courseId, int moduleId) {
+        delegate.removeModuleFromCourse(courseId, moduleId);
+    }
+
+    @Override
+    public void updateModuleOrderInCourse(int courseId, int moduleId, int newOrder) {
+        delegate.updateModuleOrderInCourse(courseId, moduleId, newOrder);
+    }
+
+    @Override
+    public void updateModuleOrdersInCourse(int courseId, List<IdOrderDto> orders) {
+        delegate.updateModuleOrdersInCourse(courseId, orders);
+    }
+
+    // ---- copies of cached values ----
+
+    private static List<CourseSummaryDto> copySummaries(List<CourseSummaryDto> courses) {
+        if (courses == null) {
+            return null;
+        }
+        return courses.stream().map(CachingCourseService::copy).collect(Collectors.toList());
+    }
+
+    private static CourseSummaryDto copy(CourseSummaryDto course) {
+        return course.toBuilder().tags(copyTags(course.getTags())).build();
+    }
+
+    private static CourseDetailsDto copy(CourseDetailsDto course) {
+        if (course == null) {
+            return null;
+        }
+        return course.toBuilder()
+                .tags(copyTags(course.getTags()))
+                .modules(course.getModules() == null ? null : course.getModules().stream()
+                        .map(CachingCourseService::copy)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static CourseModuleDto copy(CourseModuleDto courseModule) {
+        CourseModuleDto copy = new CourseModuleDto();
+        copy.setModuleOrder(courseModule.getModuleOrder());
+        ModuleSummaryDto module = courseModule.getModule();
+        copy.setModule(module == null ? null : module.toBuilder().build());
+        return copy;
+    }
+
+    private static CourseFacetsDto copy(CourseFacetsDto facets) {
+        return facets.toBuilder()
+                .categories(copyMap(facets.getCategories()))
+                .difficultyLevels(copyMap(facets.getDifficultyLevels()))
+                .tags(copyMap(facets.getTags()))
+                .priceBuckets(copyMap(facets.getPriceBuckets()))
+                .build();
+    }
+
+    private static TagDto copy(TagDto tag) {
+        return new TagDto(tag.getName(), tag.getDescription(), tag.getColor());
+    }
+
+    private static Set<TagDto> copyTags(Set<TagDto> tags) {
+        if (tags == null) {
+            return null;
+        }
+        return tags.stream().map(CachingCourseService::copy).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
+    }
+}
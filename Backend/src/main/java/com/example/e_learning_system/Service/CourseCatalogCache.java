@@ -0,0 +1,189 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.CacheStatsDto;
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache for course catalog reads (details by id, listings by query).
+ *
+ * Each region is an access-ordered LRU bounded by size, with a per-entry TTL.
+ * Concurrent misses on the same key share one load (single flight). Entries are
+ * dropped after commit of any course write: the course's detail entry and every
+ * listing, since a change to one course can move it in or out of any page.
+ */
+@Component
+@Slf4j
+public class CourseCatalogCache {
+
+    private final Region<Integer> details;
+    private final Region<List<Object>> listings;
+
+    public CourseCatalogCache(@Value("${app.course-cache.max-entries:2000}") int maxEntries,
+                              @Value("${app.course-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.details = new Region<>("course-details", maxEntries, ttlSeconds * 1000);
+        this.listings = new Region<>("course-listings", maxEntries, ttlSeconds * 1000);
+    }
+
+    public <V> V getDetail(Integer courseId, Supplier<V> loader) {
+        return details.get(courseId, loader);
+    }
+
+    /** Key parts must have value semantics (equals/hashCode); nulls are allowed */
+    public <V> V getListing(Supplier<V> loader, Object... keyParts) {
+        return listings.get(Arrays.asList(keyParts), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        log.debug("Invalidating catalog cache for course {} ({})", event.getCourseId(), event.getChangeType());
+        details.invalidate(event.getCourseId());
+        listings.invalidateAll();
+    }
+
+    public List<CacheStatsDto> getStats() {
+        return List.of(details.stats(), listings.stats());
+    }
+
+    private static final class Region<K> {
+
+        private final String name;
+        private final int maxEntries;
+        private final long ttlMillis;
+
+        // Guarded by this
+        private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        // Bumped on invalidation so loads that started earlier are not stored
+        private long generation;
+
+        private final Map<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+
+        Region(String name, int maxEntries, long ttlMillis) {
+            this.name = name;
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> V get(K key, Supplier<V> loader) {
+            long startedAt;
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.expiresAt > System.currentTimeMillis()) {
+                        hits.increment();
+                        return (V) entry.value;
+                    }
+                    entries.remove(key);
+                    evictions.increment();
+                }
+                startedAt = generation;
+            }
+            misses.increment();
+
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                return (V) await(existing);
+            }
+
+            try {
+                loads.increment();
+                V value = loader.get();
+                mine.complete(value);
+                store(key, value, startedAt);
+                return value;
+            } catch (RuntimeException | Error e) {
+                loadFailures.increment();
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        private synchronized void store(K key, Object value, long startedAt) {
+            if (startedAt != generation || value == null) {
+                return;
+            }
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+            Iterator<Map.Entry<K, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        synchronized void invalidate(K key) {
+            generation++;
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+
+        synchronized void invalidateAll() {
+            generation++;
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+
+        CacheStatsDto stats() {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long requests = hitCount + missCount;
+            int size;
+            synchronized (this) {
+                size = entries.size();
+            }
+            return CacheStatsDto.builder()
+                    .name(name)
+                    .size(size)
+                    .maxEntries(maxEntries)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                    .loads(loads.sum())
+                    .loadFailures(loadFailures.sum())
+                    .evictions(evictions.sum())
+                    .invalidations(invalidations.sum())
+                    .build();
+        }
+
+        private static Object await(CompletableFuture<Object> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.AttachmentDtos.AttachmentSummaryDto;
+import com.example.e_learning_system.Dto.CourseDtos.ContentLessonDto;
+import com.example.e_learning_system.Dto.CourseDtos.ContentModuleDto;
+import com.example.e_learning_system.Dto.CourseDtos.CourseContentDto;
+import com.example.e_learning_system.Repository.CourseModulesRepository;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.ModuleVideosRepository;
+import com.example.e_learning_system.Repository.VideoAttachmentsRepository;
+import com.example.e_learning_system.excpetions.ResourceNotFound;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles the course -> modules -> lessons -> attachments tree with three set-based
+ * queries (one per level) and caches it per course content_version. A cache hit costs
+ * a single primary-key lookup of the version. Only the latest snapshot of a course is
+ * kept, the least recently used courses are evicted beyond the size bound, and callers
+ * always get their own copy of the tree.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class CourseContentService {
+
+    private final CourseRepository courseRepository;
+    private final CourseModulesRepository courseModulesRepository;
+    private final ModuleVideosRepository moduleVideosRepository;
+    private final VideoAttachmentsRepository videoAttachmentsRepository;
+
+    private final int maxEntries;
+
+    // Guarded by this; access-ordered, so the eldest entry is the least recently used
+    private final LinkedHashMap<Integer, CourseContentDto> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    public CourseContentService(CourseRepository courseRepository,
+                                CourseModulesRepository courseModulesRepository,
+                                ModuleVideosRepository moduleVideosRepository,
+                                VideoAttachmentsRepository videoAttachmentsRepository,
+                                @Value("${app.course-content-cache.max-entries:500}") int maxEntries) {
+        this.courseRepository = courseRepository;
+        this.courseModulesRepository = courseModulesRepository;
+        this.moduleVideosRepository = moduleVideosRepository;
+        this.videoAttachmentsRepository = videoAttachmentsRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    public CourseContentDto getCourseContent(Integer courseId) {
+        List<Object[]> header = courseRepository.findContentHeaderById(courseId);
+        if (header.isEmpty()) {
+            synchronized (this) {
+                cache.remove(courseId);
+            }
+            throw ResourceNotFound.courseNotFound(courseId.toString());
+        }
+
+        Object[] row = header.get(0);
+        long version = ((Number) row[2]).longValue();
+        synchronized (this) {
+            CourseContentDto cached = cache.get(courseId);
+            if (cached != null && cached.getContentVersion() == version) {
+                return copy(cached);
+            }
+        }
+
+        log.debug("Building content tree for course {} at version {}", courseId, version);
+        CourseContentDto content = CourseContentDto.builder()
+                .courseId(courseId)
+                .courseName((String) row[0])
+                .description((String) row[1])
+                .contentVersion(version)
+                .modules(loadModules(courseId))
+                .build();
+
+        return copy(store(courseId, content));
+    }
+
+    synchronized int size() {
+        return cache.size();
+    }
+
+    // Never replaces a newer snapshot built by a concurrent request; returns the one kept
+    private synchronized CourseContentDto store(Integer courseId, CourseContentDto content) {
+        CourseContentDto kept = cache.merge(courseId, content,
+                (existing, built) -> existing.getContentVersion() >= built.getContentVersion() ? existing : built);
+        Iterator<Map.Entry<Integer, CourseContentDto>> eldest = cache.entrySet().iterator();
+        while (cache.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+        return kept;
+    }
+
+    private static CourseContentDto copy(CourseContentDto content) {
+        return content.toBuilder()
+                .modules(content.getModules().stream().map(CourseContentService::copy).collect(Collectors.toList()))
+                .build();
+    }
+
+    private static ContentModuleDto copy(ContentModuleDto module) {
+        return module.toBuilder()
+                .lessons(module.getLessons().stream().map(CourseContentService::copy).collect(Collectors.toList()))
+                .build();
+    }
+
+    private static ContentLessonDto copy(ContentLessonDto lesson) {
+        return lesson.toBuilder()
+                .attachments(lesson.getAttachments().stream()
+                        .map(attachment -> new AttachmentSummaryDto(attachment.getId(), attachment.getTitle(),
+                                attachment.getMetadata(), attachment.isActive(), attachment.getUploadedByUserId()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private List<ContentModuleDto> loadModules(Integer courseId) {
+        List<Tuple> moduleRows = courseModulesRepository.findContentModulesByCourseId(courseId);
+        if (moduleRows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, List<ContentLessonDto>> lessonsByModule = new HashMap<>();
+        List<ContentModuleDto> modules = new ArrayList<>(moduleRows.size());
+        for (Tuple moduleRow : moduleRows) {
+            Integer moduleId = moduleRow.get("moduleId", Integer.class);
+            Integer order = moduleRow.get("moduleOrder", Integer.class);
+            Integer duration = moduleRow.get("estimatedDuration", Integer.class);
+            List<ContentLessonDto> lessons = lessonsByModule.computeIfAbsent(moduleId, id -> new ArrayList<>());
+            modules.add(ContentModuleDto.builder()
+                    .moduleId(moduleId)
+                    .moduleName(moduleRow.get("moduleName", String.class))
+                    .moduleDescription(moduleRow.get("moduleDescription", String.class))
+                    .estimatedDuration(duration != null ? duration : 0)
+                    .moduleOrder(order != null ? order : 0)
+                    .lessons(lessons)
+                    .build());
+        }
+
+        List<Tuple> lessonRows = moduleVideosRepository.findContentLessonsByModuleIds(lessonsByModule.keySet());
+        if (lessonRows.isEmpty()) {
+            return modules;
+        }
+
+        Map<Integer, List<AttachmentSummaryDto>> attachmentsByVideo = new HashMap<>();
+        for (Tuple lessonRow : lessonRows) {
+            Integer videoId = lessonRow.get("videoId", Integer.class);
+            Integer order = lessonRow.get("videoOrder", Integer.class);
+            // The same video may sit in several modules; they share one attachment list
+            List<AttachmentSummaryDto> attachments = attachmentsByVideo.computeIfAbsent(videoId, id -> new ArrayList<>());
+            lessonsByModule.get(lessonRow.get("moduleId", Integer.class)).add(ContentLessonDto.builder()
+                    .videoId(videoId)
+                    .title(lessonRow.get("title", String.class))
+                    .durationSeconds(lessonRow.get("durationSeconds", Integer.class))
+                    .thumbnailId(lessonRow.get("thumbnailId", Integer.class))
+                    .status(lessonRow.get("status", String.class))
+                    .order(order != null ? order : 0)
+                    .attachments(attachments)
+                    .build());
+        }
+
+        for (Tuple attachmentRow : videoAttachmentsRepository.findContentAttachmentsByVideoIds(attachmentsByVideo.keySet())) {
+            attachmentsByVideo.get(attachmentRow.get("videoId", Integer.class)).add(AttachmentSummaryDto.builder()
+                    .id(attachmentRow.get("attachmentId", Integer.class))
+                    .title(attachmentRow.get("title", String.class))
+                    .isActive(true)
+                    .build());
+        }
+
+        return modules;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.MyLearningDtos.CoursePositionDto;
+import com.example.e_learning_system.Entities.UserCoursePosition;
+import com.example.e_learning_system.Repository.ModuleRepository;
+import com.example.e_learning_system.Repository.UserCoursePositionRepository;
+import com.example.e_learning_system.Repository.VideoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resume positions (module, video, second) of learners per course, cached write-behind.
+ *
+ * A position update only replaces the user's pending entry for the course; pending
+ * entries are written every few seconds (and at shutdown) with one batched upsert into
+ * user_course_position. Reads overlay pending entries on the stored rows, so a learner
+ * always sees their newest position.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CoursePositionService {
+
+    // Written only while the enrollment is active and the video belongs to the course;
+    // the module is taken from the course structure, preferring the one the client sent
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_course_position (user_id, course_id, module_id, video_id, position_seconds, updated_at) " +
+            "SELECT :userId, :courseId, mv.module_id, :videoId, :positionSeconds, :updatedAt " +
+            "FROM course_modules cm JOIN module_videos mv ON mv.module_id = cm.module_id " +
+            "WHERE cm.course_id = :courseId AND mv.video_id = :videoId " +
+            "AND EXISTS (SELECT 1 FROM user_course_access a WHERE a.user_id = :userId " +
+            "    AND a.course_id = :courseId AND a.is_active = true) " +
+            "ORDER BY (mv.module_id = CAST(:moduleId AS INTEGER)) IS TRUE DESC LIMIT 1 " +
+            "ON CONFLICT (user_id, course_id) DO UPDATE SET " +
+            "module_id = EXCLUDED.module_id, video_id = EXCLUDED.video_id, " +
+            "position_seconds = EXCLUDED.position_seconds, updated_at = EXCLUDED.updated_at " +
+            "WHERE user_course_position.updated_at < EXCLUDED.updated_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCoursePositionRepository userCoursePositionRepository;
+    private final ModuleRepository moduleRepository;
+    private final VideoRepository videoRepository;
+
+    // Newest unwritten position per (user, course)
+    private final Map<Key, Position> pending = new ConcurrentHashMap<>();
+
+    public void record(Integer userId, Integer courseId, CoursePositionDto position) {
+        pending.put(new Key(userId, courseId), new Position(position.getModuleId(), position.getVideoId(),
+                position.getPositionSeconds(), LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.course-position.flush-interval-ms:10000}")
+    public void flush() {
+        writePending();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing {} pending course positions before shutdown", pending.size());
+        writePending();
+    }
+
+    @Transactional(readOnly = true)
+    public CoursePositionDto getPosition(Integer userId, Integer courseId) {
+        return getPositions(userId, List.of(courseId)).get(courseId);
+    }
+
+    /** Resume positions of the user in the given courses, keyed by course id; courses never opened are absent */
+    @Transactional(readOnly = true)
+    public Map<Integer, CoursePositionDto> getPositions(Integer userId, Collection<Integer> courseIds) {
+        if (userId == null || courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, Position> byCourse = new HashMap<>();
+        for (UserCoursePosition row : userCoursePositionRepository.findByUserIdAndCourseIdIn(userId, courseIds)) {
+            byCourse.put(row.getCourseId(), new Position(row.getModuleId(), row.getVideoId(),
+                    row.getPositionSeconds(), row.getUpdatedAt()));
+        }
+        for (Integer courseId : courseIds) {
+            Position unwritten = pending.get(new Key(userId, courseId));
+            if (unwritten != null) {
+                byCourse.merge(courseId, unwritten, (stored, newer) ->
+                        stored.updatedAt().isAfter(newer.updatedAt()) ? stored : newer);
+            }
+        }
+        if (byCourse.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Set<Integer> moduleIds = new HashSet<>();
+        Set<Integer> videoIds = new HashSet<>();
+        byCourse.values().forEach(position -> {
+            if (position.moduleId() != null) {
+                moduleIds.add(position.moduleId());
+            }
+            videoIds.add(position.videoId());
+        });
+        Map<Integer, String> moduleNames = moduleIds.isEmpty() ? Collections.emptyMap()
+                : namesById(moduleRepository.findNamesByIdIn(moduleIds));
+        Map<Integer, String> lessonTitles = namesById(videoRepository.findTitlesByIdIn(videoIds));
+
+        Map<Integer, CoursePositionDto> positions = new HashMap<>();
+        byCourse.forEach((courseId, position) -> {
+            if (!lessonTitles.containsKey(position.videoId())) {
+                return; // The lesson was deleted since
+            }
+            positions.put(courseId, CoursePositionDto.builder()
+                    .courseId(courseId)
+                    .moduleId(position.moduleId())
+                    .moduleName(moduleNames.get(position.moduleId()))
+                    .videoId(position.videoId())
+                    .lessonTitle(lessonTitles.get(position.videoId()))
+                    .positionSeconds(position.positionSeconds())
+                    .updatedAt(position.updatedAt())
+                    .build());
+        });
+        return positions;
+    }
+
+    // Serialized so the scheduled flush and the shutdown flush never write the same snapshot twice
+    private synchronized void writePending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Key, Position> snapshot = new HashMap<>(pending);
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(snapshot));
+        } catch (RuntimeException e) {
+            log.warn("Course position flush of {} entries failed, keeping them for the next flush", snapshot.size(), e);
+            return;
+        }
+        // Positions recorded during the write replaced their entry and stay pending
+        snapshot.forEach(pending::remove);
+        log.debug("Flushed {} course positions in {} ms", snapshot.size(), System.currentTimeMillis() - start);
+    }
+
+    private void write(Map<Key, Position> snapshot) {
+        List<SqlParameterSource> rows = new ArrayList<>(snapshot.size());
+        snapshot.forEach((key, position) -> rows.add(new MapSqlParameterSource()
+                .addValue("userId", key.userId())
+                .addValue("courseId", key.courseId())
+                .addValue("moduleId", position.moduleId(), Types.INTEGER)
+                .addValue("videoId", position.videoId())
+                .addValue("positionSeconds", position.positionSeconds())
+                .addValue("updatedAt", Timestamp.valueOf(position.updatedAt()))));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows.toArray(new SqlParameterSource[0]));
+    }
+
+    private static Map<Integer, String> namesById(List<Object[]> rows) {
+        Map<Integer, String> names = new HashMap<>();
+        for (Object[] row : rows) {
+            names.put(((Number) row[0]).intValue(), (String) row[1]);
+        }
+        return names;
+    }
+
+    private record Key(int userId, int courseId) {
+    }
+
+    private record Position(Integer moduleId, int videoId, int positionSeconds, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import com.example.e_learning_system.Repository.CourseRankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maintains the course_rank read model used for teachers' top performing courses.
+ * A course's row is recomputed in the caller's transaction whenever its enrollments,
+ * ratings or revenue change; the nightly refresh moves the recent revenue window.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class CourseRankService {
+
+    private final CourseRankRepository courseRankRepository;
+
+    /** Ids of the teacher's {@code limit} best ranked courses, best first */
+    @Transactional(readOnly = true)
+    public List<Integer> getTopCourseIds(Integer teacherId, int limit) {
+        if (teacherId == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        return courseRankRepository.findTopCourseIdsByCreatedBy(teacherId, PageRequest.of(0, limit));
+    }
+
+    public void refreshCourse(Integer courseId) {
+        if (courseId == null) {
+            return;
+        }
+        courseRankRepository.refreshCourse(courseId);
+    }
+
+    /** New courses get a row right away; ownership changes are picked up on update */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.getChangeType() == CourseChangedEvent.ChangeType.CREATED
+                || event.getChangeType() == CourseChangedEvent.ChangeType.UPDATED) {
+            refreshCourse(event.getCourseId());
+        }
+    }
+
+    @Scheduled(cron = "${app.course-rank.refresh-cron:0 30 4 * * *}")
+    public void refreshAll() {
+        long start = System.currentTimeMillis();
+        int rows = courseRankRepository.refreshAll();
+        log.info("Refreshed course_rank for {} courses in {} ms", rows, System.currentTimeMillis() - start);
+    }
+}
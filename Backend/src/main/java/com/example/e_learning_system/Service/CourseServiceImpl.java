@@ -1,15 +1,19 @@
 package com.example.e_learning_system.Service;
 
+import com.example.e_learning_system.Config.Category;
 import com.example.e_learning_system.Config.CourseStatus;
+import com.example.e_learning_system.Config.DifficultyLevel;
 
 import com.example.e_learning_system.Dto.CourseDtos.*;
 import com.example.e_learning_system.Entities.Attachment;
 import com.example.e_learning_system.Entities.CourseModules;
+import com.example.e_learning_system.Entities.CourseStats;
 import com.example.e_learning_system.Entities.Course;
 import com.example.e_learning_system.Entities.Module;
 import com.example.e_learning_system.Entities.TagsEntity;
 import com.example.e_learning_system.Entities.TagsEntity;
 import com.example.e_learning_system.Entities.UserEntity;
+import com.example.e_learning_system.Events.CourseChangedEvent;
 import com.example.e_learning_system.Service.Interfaces.CourseService;
 import com.example.e_learning_system.Mapper.CourseMapper;
 import com.example.e_learning_system.Dto.OrderDtos.IdOrderDto;
@@ -20,8 +24,12 @@ import com.example.e_learning_system.Repository.TagsRepository;
 import com.example.e_learning_system.Repository.TagsRepository;
 import com.example.e_learning_system.Repository.UserRepository;
 import com.example.e_learning_system.Repository.AttachmentRepository;
+import com.example.e_learning_system.Dto.CursorPageDto;
+import com.example.e_learning_system.excpetions.ClientException;
 import com.example.e_learning_system.excpetions.ResourceNotFound;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.AbstractQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
@@ -30,9 +38,11 @@ import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -40,17 +50,23 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
-import com.example.e_learning_system.Repository.UserCourseAccessRepository;
-import com.example.e_learning_system.Repository.UserFeedbackRepository;
 import com.example.e_learning_system.Service.Interfaces.RagService;
 @Service
 @RequiredArgsConstructor
@@ -58,6 +74,11 @@ import com.example.e_learning_system.Service.Interfaces.RagService;
 @Slf4j
 public class CourseServiceImpl implements CourseService {
 
+    // Columns backed by a (column, id) index, usable as keyset sort keys; createdAt is nullable
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "name", "createdAt");
+    private static final int SEARCH_RESULT_LIMIT = 50;
+    private static final List<String> PRICE_BUCKETS = List.of("free", "0-25", "25-50", "50-100", "100+");
+
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final ModuleRepository moduleRepository;
@@ -65,8 +86,9 @@ public class CourseServiceImpl implements CourseService {
     private final CourseModulesRepository courseModulesRepository;
     private final TagsRepository tagsRepository;
     private final AttachmentRepository attachmentRepository;
-    private final UserCourseAccessRepository userCourseAccessRepository;
-    private final UserFeedbackRepository userFeedbackRepository;
+    private final CourseStatsService courseStatsService;
+    private final UserCourseProgressService userCourseProgressService;
+    private final ApplicationEventPublisher eventPublisher;
     private final RagService ragService;
     @Value("${app.public-base-url:http://localhost:5000}")
     private String publicBaseUrl;
@@ -75,9 +97,9 @@ public class CourseServiceImpl implements CourseService {
     public List<CourseSummaryDto> getCourses() {
         log.debug("Fetching all courses");
 
-        List<Course> courses = courseRepository.findAll();
-        List<CourseSummaryDto> summaries = CourseMapper.fromCourseEntitiesToCourseSummaryDtos(courses);
-        enrichCourseSummaries(courses, summaries);
+        List<Tuple> rows = courseRepository.findAllCourseSummaries();
+        List<CourseSummaryDto> summaries = CourseMapper.fromSummaryTuplesToCourseSummaryDtos(rows);
+        enrichCourseSummaries(summaries);
         return summaries;
     }
 
@@ -86,17 +108,13 @@ public class CourseServiceImpl implements CourseService {
     public Page<CourseSummaryDto> getCourses(CourseFilterDto filterDto, Pageable pageable) {
         log.debug("Fetching courses with filter: {} and pagination", filterDto);
 
-        // Build dynamic query using Criteria API
+        // Build dynamic query using Criteria API, selecting only the summary columns
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Course> query = cb.createQuery(Course.class);
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
         Root<Course> root = query.from(Course.class);
+        selectSummaryColumns(query, root);
 
-        List<Predicate> predicates = buildPredicates(cb, root, filterDto);
-        boolean filterByTags = filterDto != null && filterDto.getTags() != null && !filterDto.getTags().isEmpty();
-
-        if (filterByTags) {
-            query.distinct(true);
-        }
+        List<Predicate> predicates = buildPredicates(cb, query, root, filterDto);
 
         if (!predicates.isEmpty()) {
             query.where(cb.and(predicates.toArray(new Predicate[0])));
@@ -118,31 +136,154 @@ public class CourseServiceImpl implements CourseService {
         }
 
         // Get total count for pagination
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<Course> countRoot = countQuery.from(Course.class);
-        if (filterByTags) {
-            countQuery.select(cb.countDistinct(countRoot));
-        } else {
-            countQuery.select(cb.count(countRoot));
+        long total = countCourses(cb, filterDto);
+
+        // Apply pagination and get results
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        List<CourseSummaryDto> courseDtos = CourseMapper.fromSummaryTuplesToCourseSummaryDtos(rows);
+        enrichCourseSummaries(courseDtos);
+
+        return new PageImpl<>(courseDtos, pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<CourseSummaryDto> getCoursesByCursor(CourseFilterDto filterDto, String cursor,
+                                                             Pageable pageable, boolean includeTotal) {
+        log.debug("Fetching courses with filter: {} after cursor: {}", filterDto, cursor);
+
+        Sort.Order sortOrder = pageable.getSort().isSorted()
+                ? pageable.getSort().iterator().next()
+                : Sort.Order.asc("id");
+        String property = sortOrder.getProperty();
+        boolean ascending = sortOrder.isAscending();
+        if (!KEYSET_SORT_PROPERTIES.contains(property)) {
+            throw ClientException.badRequest("Unsupported sort property for cursor pagination: " + property);
         }
 
-        List<Predicate> countPredicates = buildPredicates(cb, countRoot, filterDto);
-        if (!countPredicates.isEmpty()) {
-            countQuery.where(cb.and(countPredicates.toArray(new Predicate[0])));
+        CourseCursor after = (cursor == null || cursor.isBlank()) ? null : CourseCursor.decode(cursor);
+        if (after != null && (!after.getSortProperty().equals(property) || after.isAscending() != ascending)) {
+            throw ClientException.badRequest("Cursor does not match the requested sort");
         }
 
-        long total = entityManager.createQuery(countQuery).getSingleResult();
+        int pageSize = pageable.getPageSize();
 
-        // Apply pagination and get results
-        List<Course> courses = entityManager.createQuery(query)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize())
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> root = query.from(Course.class);
+        selectSummaryColumns(query, root);
+
+        List<Predicate> predicates = buildPredicates(cb, query, root, filterDto);
+
+        Path<Integer> idPath = root.get("id");
+        if (after != null) {
+            predicates.add(buildSeekPredicate(cb, root, property, ascending, after));
+        }
+        if (!predicates.isEmpty()) {
+            query.where(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        Path<?> keyPath = root.get(property);
+        query.orderBy(ascending ? cb.asc(keyPath) : cb.desc(keyPath),
+                ascending ? cb.asc(idPath) : cb.desc(idPath));
+
+        // Fetch one extra row to know whether another slice exists
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(pageSize + 1)
                 .getResultList();
 
-    List<CourseSummaryDto> courseDtos = CourseMapper.fromCourseEntitiesToCourseSummaryDtos(courses);
-    enrichCourseSummaries(courses, courseDtos);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+
+        List<CourseSummaryDto> courseDtos = CourseMapper.fromSummaryTuplesToCourseSummaryDtos(rows);
+        enrichCourseSummaries(courseDtos);
+
+        String nextCursor = null;
+        if (hasNext && !rows.isEmpty()) {
+            Tuple last = rows.get(rows.size() - 1);
+            nextCursor = new CourseCursor(property, ascending, last.get("id", Integer.class),
+                    keysetValue(last, property)).encode();
+        }
 
-    return new PageImpl<>(courseDtos, pageable, total);
+        return CursorPageDto.<CourseSummaryDto>builder()
+                .content(courseDtos)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? countCourses(cb, filterDto) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CourseFacetsDto getCourseFacets(CourseFilterDto filterDto) {
+        log.debug("Computing course facets for filter: {}", filterDto);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // Category, difficulty and price all come from one grouped query: each course falls in
+        // exactly one (category, difficulty, price) group, so the groups can be summed per facet
+        CriteriaQuery<Tuple> groupQuery = cb.createTupleQuery();
+        Root<Course> root = groupQuery.from(Course.class);
+        Path<Category> category = root.get("category");
+        Path<DifficultyLevel> difficulty = root.get("difficultyLevel");
+        Path<BigDecimal> price = root.get("oneTimePrice");
+        groupQuery.multiselect(category, difficulty, price, cb.count(root))
+                .groupBy(category, difficulty, price);
+        List<Predicate> predicates = buildPredicates(cb, groupQuery, root, filterDto);
+        if (!predicates.isEmpty()) {
+            groupQuery.where(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        long total = 0;
+        Map<Category, Long> categories = new EnumMap<>(Category.class);
+        Map<DifficultyLevel, Long> difficultyLevels = new EnumMap<>(DifficultyLevel.class);
+        Map<String, Long> priceBuckets = new LinkedHashMap<>();
+        for (String bucket : PRICE_BUCKETS) {
+            priceBuckets.put(bucket, 0L);
+        }
+
+        for (Tuple row : entityManager.createQuery(groupQuery).getResultList()) {
+            long count = row.get(3, Long.class);
+            total += count;
+            if (row.get(0) != null) {
+                categories.merge(row.get(0, Category.class), count, Long::sum);
+            }
+            if (row.get(1) != null) {
+                difficultyLevels.merge(row.get(1, DifficultyLevel.class), count, Long::sum);
+            }
+            priceBuckets.merge(priceBucket(row.get(2, BigDecimal.class)), count, Long::sum);
+        }
+
+        // Tags need their own grouped query since a course has many tags
+        CriteriaQuery<Tuple> tagQuery = cb.createTupleQuery();
+        Root<Course> tagRoot = tagQuery.from(Course.class);
+        Join<Course, TagsEntity> facetTag = tagRoot.join("tags", JoinType.INNER);
+        tagQuery.multiselect(facetTag.get("name"), cb.countDistinct(tagRoot))
+                .groupBy(facetTag.get("name"));
+        List<Predicate> tagPredicates = buildPredicates(cb, tagQuery, tagRoot, filterDto);
+        if (!tagPredicates.isEmpty()) {
+            tagQuery.where(cb.and(tagPredicates.toArray(new Predicate[0])));
+        }
+
+        Map<String, Long> tags = new TreeMap<>();
+        for (Tuple row : entityManager.createQuery(tagQuery).getResultList()) {
+            tags.put(row.get(0, String.class), row.get(1, Long.class));
+        }
+
+        return CourseFacetsDto.builder()
+                .total(total)
+                .categories(categories)
+                .difficultyLevels(difficultyLevels)
+                .tags(tags)
+                .priceBuckets(priceBuckets)
+                .build();
     }
 
     @Override
@@ -158,6 +299,7 @@ public class CourseServiceImpl implements CourseService {
 
 
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(savedCourse.getId(), CourseChangedEvent.ChangeType.CREATED));
 
         // Index the course in RAG service for intelligent recommendations
         try {
@@ -176,13 +318,15 @@ public class CourseServiceImpl implements CourseService {
     public CourseDetailsDto getCourseById(Integer id) {
         log.debug("Fetching course with id: {}", id);
 
-        Course course = courseRepository.findById(id)
+        Course course = courseRepository.findDetailById(id)
                 .orElseThrow(() -> ResourceNotFound.courseNotFound(id.toString()));
 
         CourseDetailsDto details = CourseMapper.fromCourseEntityToCourseDetailsDto(course);
-        details.setEnrolledCount(resolveEnrolledCount(id));
-        details.setAverageRating(resolveAverageRating(id));
-        details.setReviewCount(resolveReviewCount(id));
+        CourseStatsDto stats = loadCourseStats(Collections.singletonList(id))
+                .getOrDefault(id, CourseStatsDto.empty(id));
+        details.setEnrolledCount(stats.getEnrolledCount());
+        details.setAverageRating(stats.getAverageRating());
+        details.setReviewCount(stats.getReviewCount());
         details.setThumbnailUrl(buildAttachmentUrl(course.getThumbnail()));
 
         return details;
@@ -204,6 +348,7 @@ public class CourseServiceImpl implements CourseService {
         CourseMapper.fromUpdateCourseDtoToCourseEntity( updateCourseDto , existingCourse, tagsRepository, attachmentRepository);
 
         Course updatedCourse = courseRepository.save(existingCourse);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.UPDATED));
 
         // Re-index the updated course in RAG service
         try {
@@ -229,6 +374,7 @@ public class CourseServiceImpl implements CourseService {
         }
 
         courseRepository.deleteById(id);
+        eventPublisher.publishEvent(new CourseChangedEvent(id, CourseChangedEvent.ChangeType.DELETED));
 
         log.info("Course deleted successfully: {}", id);
     }
@@ -248,6 +394,7 @@ public class CourseServiceImpl implements CourseService {
 
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(id, CourseChangedEvent.ChangeType.ACTIVATION_CHANGED));
 
         log.info("Course deactivated successfully: {}", id);
     }
@@ -272,6 +419,8 @@ public class CourseServiceImpl implements CourseService {
                 newCourseModule.setModule(module.get());
                 course.addCourseModules(newCourseModule);
                 courseRepository.save(course);
+                userCourseProgressService.refreshCourse(courseId);
+                eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.MODULES_CHANGED));
             }else {
                 throw new RuntimeException("module order already exists");
             }
@@ -288,78 +437,86 @@ public class CourseServiceImpl implements CourseService {
             Course course = courseModule.get().getCourse();
             course.removeCourseModules(courseModule.get());
             courseRepository.save(course);
+            userCourseProgressService.refreshCourse(courseId);
+            eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.MODULES_CHANGED));
         }
     }
 
 
 
 
-    private void enrichCourseSummaries(List<Course> courses, List<CourseSummaryDto> summaries) {
-        if (courses == null || summaries == null || summaries.isEmpty()) {
+    private void enrichCourseSummaries(List<CourseSummaryDto> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
             return;
         }
 
-        int limit = Math.min(courses.size(), summaries.size());
-        for (int i = 0; i < limit; i++) {
-            Course course = courses.get(i);
-            CourseSummaryDto dto = summaries.get(i);
-            if (course == null || dto == null) {
+        Set<Integer> courseIds = summaries.stream()
+                .filter(Objects::nonNull)
+                .map(CourseSummaryDto::getId)
+                .collect(Collectors.toSet());
+        Map<Integer, CourseStatsDto> statsByCourse = loadCourseStats(courseIds);
+        Map<Integer, Set<TagDto>> tagsByCourse = loadCourseTags(courseIds);
+
+        for (CourseSummaryDto dto : summaries) {
+            if (dto == null) {
                 continue;
             }
 
-            dto.setThumbnailUrl(buildAttachmentUrl(course.getThumbnail()));
-            dto.setCategory(course.getCategory());
-            dto.setEnrolledCount(resolveEnrolledCount(course.getId()));
-            dto.setAverageRating(resolveAverageRating(course.getId()));
-            dto.setReviewCount(resolveReviewCount(course.getId()));
+            CourseStatsDto stats = statsByCourse.getOrDefault(dto.getId(), CourseStatsDto.empty(dto.getId()));
+            dto.setTags(tagsByCourse.getOrDefault(dto.getId(), new HashSet<>()));
+            dto.setThumbnailUrl(buildAttachmentUrl(dto.getThumbnail()));
+            dto.setEnrolledCount(stats.getEnrolledCount());
+            dto.setAverageRating(stats.getAverageRating());
+            dto.setReviewCount(stats.getReviewCount());
         }
     }
 
-    private int resolveEnrolledCount(Integer courseId) {
-        if (courseId == null) {
-            return 0;
+    /** Tags for a page of courses in one query */
+    private Map<Integer, Set<TagDto>> loadCourseTags(Collection<Integer> courseIds) {
+        Map<Integer, Set<TagDto>> tags = new HashMap<>();
+        if (courseIds == null || courseIds.isEmpty()) {
+            return tags;
         }
-        try {
-            long enrolled = userCourseAccessRepository.countByCourseIdAndIsActiveTrue(courseId);
-            return (int) enrolled;
-        } catch (Exception e) {
-            log.warn("Failed to compute enrolled count for course {}: {}", courseId, e.getMessage());
-            return 0;
+        for (Tuple row : courseRepository.findTagsByCourseIds(courseIds)) {
+            tags.computeIfAbsent(row.get("courseId", Integer.class), id -> new HashSet<>())
+                    .add(new TagDto(row.get("name", String.class), row.get("description", String.class),
+                            row.get("color", String.class)));
         }
+        return tags;
     }
 
-    private double resolveAverageRating(Integer courseId) {
-        if (courseId == null) {
-            return 0.0;
-        }
-        try {
-            Double avg = userFeedbackRepository.findAverageRatingByCourseId(courseId);
-            return avg == null ? 0.0 : avg;
-        } catch (Exception e) {
-            log.warn("Failed to compute average rating for course {}: {}", courseId, e.getMessage());
-            return 0.0;
+    /**
+     * Read enrolled count, average rating and review count for a set of courses
+     * from the precomputed course_stats rows. Courses without a row have no
+     * enrollments or feedback yet.
+     */
+    private Map<Integer, CourseStatsDto> loadCourseStats(Collection<Integer> courseIds) {
+        Map<Integer, CourseStatsDto> stats = new HashMap<>();
+        if (courseIds == null || courseIds.isEmpty()) {
+            return stats;
         }
-    }
 
-    private int resolveReviewCount(Integer courseId) {
-        if (courseId == null) {
-            return 0;
-        }
         try {
-            Integer count = userFeedbackRepository.findReviewCountByCourseId(courseId);
-            return count == null ? 0 : count;
+            for (CourseStats row : courseStatsService.getStats(courseIds).values()) {
+                stats.put(row.getCourseId(), new CourseStatsDto(row.getCourseId(), row.getEnrolledCount(),
+                        row.getAverageRating(), row.getReviewCount()));
+            }
         } catch (Exception e) {
-            log.warn("Failed to compute review count for course {}: {}", courseId, e.getMessage());
-            return 0;
+            log.warn("Failed to load stats for courses {}: {}", courseIds, e.getMessage());
         }
+
+        return stats;
     }
 
     private String buildAttachmentUrl(Attachment attachment) {
         if (attachment == null) {
             return null;
         }
-        int attachmentId = attachment.getId();
-        if (attachmentId <= 0) {
+        return buildAttachmentUrl(attachment.getId());
+    }
+
+    private String buildAttachmentUrl(Integer attachmentId) {
+        if (attachmentId == null || attachmentId <= 0) {
             return null;
         }
         String base = (publicBaseUrl == null) ? "" : publicBaseUrl.trim();
@@ -371,7 +528,115 @@ public class CourseServiceImpl implements CourseService {
 
     // Private helper methods
 
-    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Course> root, CourseFilterDto filterDto) {
+    private String priceBucket(BigDecimal price) {
+        if (price == null || price.signum() <= 0) {
+            return "free";
+        }
+        if (price.compareTo(BigDecimal.valueOf(25)) < 0) {
+            return "0-25";
+        }
+        if (price.compareTo(BigDecimal.valueOf(50)) < 0) {
+            return "25-50";
+        }
+        if (price.compareTo(BigDecimal.valueOf(100)) < 0) {
+            return "50-100";
+        }
+        return "100+";
+    }
+
+    private long countCourses(CriteriaBuilder cb, CourseFilterDto filterDto) {
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Course> countRoot = countQuery.from(Course.class);
+        countQuery.select(cb.count(countRoot));
+
+        List<Predicate> countPredicates = buildPredicates(cb, countQuery, countRoot, filterDto);
+        if (!countPredicates.isEmpty()) {
+            countQuery.where(cb.and(countPredicates.toArray(new Predicate[0])));
+        }
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    /**
+     * Expanded form of (sortKey, id) > (lastKey, lastId), or &lt; for descending order.
+     * A null createdAt travels in the cursor as an empty value.
+     */
+    private Predicate buildSeekPredicate(CriteriaBuilder cb, Root<Course> root, String property,
+                                         boolean ascending, CourseCursor after) {
+        Path<Integer> idPath = root.get("id");
+        Predicate idAfter = ascending
+                ? cb.greaterThan(idPath, after.getLastId())
+                : cb.lessThan(idPath, after.getLastId());
+
+        try {
+            switch (property) {
+                case "id":
+                    return idAfter;
+                case "name": {
+                    Path<String> key = root.get("name");
+                    String value = after.getLastValue();
+                    return cb.or(ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value),
+                            cb.and(cb.equal(key, value), idAfter));
+                }
+                case "createdAt": {
+                    // PostgreSQL sorts NULLs last ascending and first descending
+                    Path<LocalDateTime> key = root.get("createdAt");
+                    if (after.getLastValue().isEmpty()) {
+                        return ascending
+                                ? cb.and(cb.isNull(key), idAfter)
+                                : cb.or(cb.isNotNull(key), cb.and(cb.isNull(key), idAfter));
+                    }
+                    LocalDateTime value = LocalDateTime.parse(after.getLastValue());
+                    Predicate keyAfter = cb.or(ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value),
+                            cb.and(cb.equal(key, value), idAfter));
+                    return ascending ? cb.or(keyAfter, cb.isNull(key)) : keyAfter;
+                }
+                default:
+                    throw ClientException.badRequest("Unsupported sort property for cursor pagination: " + property);
+            }
+        } catch (DateTimeParseException e) {
+            throw ClientException.badRequest("Invalid cursor");
+        }
+    }
+
+    private String keysetValue(Tuple row, String property) {
+        switch (property) {
+            case "name":
+                return row.get("name", String.class);
+            case "createdAt": {
+                LocalDateTime createdAt = row.get("createdAt", LocalDateTime.class);
+                return createdAt == null ? "" : createdAt.toString();
+            }
+            default:
+                return String.valueOf(row.get("id", Integer.class));
+        }
+    }
+
+    /**
+     * Select exactly the columns CourseSummaryDto needs, aliased for CourseMapper.fromSummaryTupleToCourseSummaryDto.
+     * createdAt is carried along for keyset cursors.
+     */
+    private void selectSummaryColumns(CriteriaQuery<Tuple> query, Root<Course> root) {
+        Join<Course, Attachment> thumbnail = root.join("thumbnail", JoinType.LEFT);
+        Join<Course, UserEntity> instructor = root.join("createdBy", JoinType.LEFT);
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("name").alias("name"),
+                root.get("description").alias("description"),
+                root.get("status").alias("status"),
+                root.get("difficultyLevel").alias("difficultyLevel"),
+                root.get("isActive").alias("isActive"),
+                root.get("oneTimePrice").alias("oneTimePrice"),
+                root.get("currency").alias("currency"),
+                thumbnail.get("id").alias("thumbnailId"),
+                instructor.get("name").alias("instructor"),
+                root.get("estimatedDrationInHours").alias("estimatedDurationInHours"),
+                root.get("category").alias("category"),
+                root.get("createdAt").alias("createdAt"));
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<Course> root,
+                                            CourseFilterDto filterDto) {
         List<Predicate> predicates = new ArrayList<>();
 
         if (filterDto == null) {
@@ -438,10 +703,15 @@ public class CourseServiceImpl implements CourseService {
             predicates.add(root.get("difficultyLevel").in(filterDto.getDifficultyLevels()));
         }
 
-        // Tags filter
+        // Tags filter, as EXISTS so the outer query needs no DISTINCT
         if (filterDto.getTags() != null && !filterDto.getTags().isEmpty()) {
-            Join<Course, TagsEntity> tagJoin = root.join("tags", JoinType.LEFT);
-            predicates.add(tagJoin.get("name").in(filterDto.getTags()));
+            Subquery<Integer> tagged = query.subquery(Integer.class);
+            Root<Course> taggedCourse = tagged.from(Course.class);
+            Join<Course, TagsEntity> tagJoin = taggedCourse.join("tags");
+            tagged.select(taggedCourse.get("id"))
+                    .where(cb.equal(taggedCourse.get("id"), root.get("id")),
+                            tagJoin.get("name").in(filterDto.getTags()));
+            predicates.add(cb.exists(tagged));
         }
 
         // Category filter
@@ -525,6 +795,7 @@ public class CourseServiceImpl implements CourseService {
         }
 
         courseModulesRepository.saveAll(courseModules);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.MODULES_CHANGED));
     }
 
     @Override
@@ -532,6 +803,8 @@ public class CourseServiceImpl implements CourseService {
         CourseModules courseModule = courseModulesRepository.findByCourseIdAndModuleId(courseId, moduleId)
                 .orElseThrow(() -> ResourceNotFound.moduleNotFoundInCourse(moduleId + "", courseId + ""));
         courseModulesRepository.delete(courseModule);
+        userCourseProgressService.refreshCourse(courseId);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.MODULES_CHANGED));
 
     }
 
@@ -545,11 +818,25 @@ public class CourseServiceImpl implements CourseService {
         }
 
         String trimmedQuery = query.trim();
-        List<Course> courses = courseRepository.searchCourses(trimmedQuery);
+        List<Object[]> matches = courseRepository.searchCourseMatches(trimmedQuery, SEARCH_RESULT_LIMIT);
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Rank order and match type come from the query
+        Map<Integer, String> matchTypes = new LinkedHashMap<>();
+        for (Object[] row : matches) {
+            matchTypes.put(((Number) row[0]).intValue(), (String) row[2]);
+        }
+        Map<Integer, Course> coursesById = courseRepository.findAllById(matchTypes.keySet()).stream()
+                .collect(Collectors.toMap(Course::getId, c -> c));
+        List<Course> courses = matchTypes.keySet().stream()
+                .map(coursesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
         return courses.stream().map(course -> {
-            // Determine match type
-            String matchType = determineMatchType(course, trimmedQuery);
+            String matchType = matchTypes.get(course.getId());
 
             // Count lessons/videos
             Integer lessonCount = course.getCourseModules() != null
@@ -591,47 +878,6 @@ public class CourseServiceImpl implements CourseService {
         }).collect(Collectors.toList());
     }
 
-    private String determineMatchType(Course course, String query) {
-        String lowerQuery = query.toLowerCase();
-
-        // Check for exact match in title
-        if (course.getName().toLowerCase().equals(lowerQuery)) {
-            return "title_exact";
-        }
-
-        // Check for match in title
-        if (course.getName().toLowerCase().contains(lowerQuery)) {
-            return "title";
-        }
-
-        // Check for match in instructor name
-        if (course.getCreatedBy() != null &&
-                course.getCreatedBy().getName() != null &&
-                course.getCreatedBy().getName().toLowerCase().contains(lowerQuery)) {
-            return "instructor";
-        }
-
-        // Check for match in tags
-        if (course.getTags() != null && course.getTags().stream()
-                .anyMatch(tag -> tag.getName().toLowerCase().contains(lowerQuery))) {
-            return "tag";
-        }
-
-        // Check for match in category
-        if (course.getCategory() != null &&
-                course.getCategory().name().toLowerCase().contains(lowerQuery)) {
-            return "category";
-        }
-
-        // Check for match in description
-        if (course.getDescription() != null &&
-                course.getDescription().toLowerCase().contains(lowerQuery)) {
-            return "description";
-        }
-
-        return "other";
-    }
-
     /**
      * Index a course in the RAG service for intelligent recommendations
      * This method is called when courses are created or updated
@@ -0,0 +1,86 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Entities.CourseStats;
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import com.example.e_learning_system.Repository.CourseStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the course_stats read model. Write methods join the caller's
+ * transaction so the counters commit or roll back together with the
+ * enrollment / feedback change that triggered them, and re-rank the course.
+ * Every counter change publishes CourseChangedEvent so cached catalog views
+ * drop their enrolled count and rating after commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class CourseStatsService {
+
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseRankService courseRankService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public Map<Integer, CourseStats> getStats(Collection<Integer> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return courseStatsRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(CourseStats::getCourseId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public CourseStats getStats(Integer courseId) {
+        return courseStatsRepository.findById(courseId)
+                .orElseGet(() -> CourseStats.builder().courseId(courseId).build());
+    }
+
+    public void recordEnrollmentChange(Integer courseId, int delta) {
+        if (courseId == null || delta == 0) {
+            return;
+        }
+        courseStatsRepository.applyEnrollmentDelta(courseId, delta);
+        courseRankService.refreshCourse(courseId);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.STATS_CHANGED));
+    }
+
+    /**
+     * Apply a feedback write. {@code previousRating} is the rating before an
+     * in-place edit, {@code newReview} tells whether a new feedback row was added.
+     */
+    public void recordFeedback(Integer courseId, Integer previousRating, Integer newRating, boolean newReview) {
+        if (courseId == null) {
+            return;
+        }
+        long ratingSumDelta = (newRating != null ? newRating : 0) - (previousRating != null ? previousRating : 0);
+        int ratingCountDelta = (newRating != null ? 1 : 0) - (previousRating != null ? 1 : 0);
+        int reviewCountDelta = newReview ? 1 : 0;
+        if (ratingSumDelta == 0 && ratingCountDelta == 0 && reviewCountDelta == 0) {
+            return;
+        }
+        courseStatsRepository.applyFeedbackDelta(courseId, ratingSumDelta, ratingCountDelta, reviewCountDelta);
+        courseRankService.refreshCourse(courseId);
+        eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.STATS_CHANGED));
+    }
+
+    /** Recompute all counters from scratch to repair any drift */
+    @Scheduled(cron = "${app.course-stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int rows = courseStatsRepository.rebuildAll();
+        log.info("Rebuilt course_stats for {} courses in {} ms", rows, System.currentTimeMillis() - start);
+    }
+}
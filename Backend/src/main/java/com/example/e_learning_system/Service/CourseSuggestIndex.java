@@ -0,0 +1,456 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Config.Category;
+import com.example.e_learning_system.Config.CourseStatus;
+import com.example.e_learning_system.Dto.CourseDtos.CourseSuggestionDto;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.CourseStats;
+import com.example.e_learning_system.Entities.TagsEntity;
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.CourseStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory prefix index backing the search box autocomplete.
+ * <p>
+ * Every published course contributes its name, tags, category and instructor.
+ * Each suggestion is indexed under every word-start suffix of its text, and each
+ * trie node caches the top {@value #TOP_K} suggestions below it by popularity,
+ * so a lookup is a walk down the prefix with no sorting or database access.
+ */
+@Component
+@Slf4j
+public class CourseSuggestIndex {
+
+    static final int TOP_K = 10;
+    private static final int MAX_INDEXED_WORDS = 8;
+
+    private static final Comparator<Suggestion> BY_POPULARITY = Comparator
+            .comparingLong((Suggestion s) -> s.popularity).reversed()
+            .thenComparing(s -> s.text);
+
+    private final CourseRepository courseRepository;
+    private final CourseStatsRepository courseStatsRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    private Map<Integer, CourseTerms> indexedCourses = new HashMap<>();
+    private Map<String, Suggestion> sharedSuggestions = new HashMap<>();
+    // Guarded by lock; non-null while a rebuild reads its snapshot. Collects the latest terms
+    // (null: not indexed) of courses changed meanwhile, which are replayed onto the new index
+    private Map<Integer, CourseTerms> pendingChanges;
+
+    public CourseSuggestIndex(CourseRepository courseRepository,
+                              CourseStatsRepository courseStatsRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.courseStatsRepository = courseStatsRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<CourseSuggestionDto> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = trie.find(key);
+            if (node == null || node.top.length == 0) {
+                return Collections.emptyList();
+            }
+            int count = Math.min(limit, node.top.length);
+            List<CourseSuggestionDto> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(node.top[i].toDto());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Full rebuild; also picks up popularity drift from enrollments */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.course-suggest.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<CourseTerms> terms = readOnlyTransaction.execute(status -> {
+                Map<Integer, Long> popularity = courseStatsRepository.findAll().stream()
+                        .collect(Collectors.toMap(CourseStats::getCourseId, s -> (long) s.getEnrolledCount()));
+                return courseRepository.findPublishedWithTagsAndCreator().stream()
+                        .map(course -> CourseTerms.of(course, popularity.getOrDefault(course.getId(), 0L)))
+                        .collect(Collectors.toList());
+            });
+
+            Trie newTrie = new Trie();
+            Map<Integer, CourseTerms> newCourses = new HashMap<>();
+            Map<String, Suggestion> newShared = new HashMap<>();
+            for (CourseTerms courseTerms : terms) {
+                addCourse(newTrie, newShared, courseTerms);
+                newCourses.put(courseTerms.courseId, courseTerms);
+            }
+
+            lock.writeLock().lock();
+            try {
+                // Changes committed after the snapshot was read are newer than it
+                pendingChanges.forEach((courseId, updated) ->
+                        replaceCourse(newTrie, newShared, newCourses, courseId, updated));
+                trie = newTrie;
+                indexedCourses = newCourses;
+                sharedSuggestions = newShared;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt course suggest index with {} courses in {} ms", terms.size(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild course suggest index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        try {
+            CourseTerms updated = readOnlyTransaction.execute(status -> courseRepository
+                    .findWithTagsAndCreatorById(event.getCourseId())
+                    .filter(course -> course.isActive() && course.getStatus() == CourseStatus.PUBLISHED)
+                    .map(course -> CourseTerms.of(course, courseStatsRepository.findById(course.getId())
+                            .map(s -> (long) s.getEnrolledCount())
+                            .orElse(0L)))
+                    .orElse(null));
+
+            lock.writeLock().lock();
+            try {
+                replaceCourse(trie, sharedSuggestions, indexedCourses, event.getCourseId(), updated);
+                if (pendingChanges != null) {
+                    pendingChanges.put(event.getCourseId(), updated);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update suggest index for course {}: {}", event.getCourseId(), e.getMessage());
+        }
+    }
+
+    // ---- index maintenance (callers hold the write lock or own the structures) ----
+
+    private static void replaceCourse(Trie trie, Map<String, Suggestion> shared, Map<Integer, CourseTerms> courses,
+                                      int courseId, CourseTerms updated) {
+        CourseTerms previous = courses.remove(courseId);
+        if (previous != null) {
+            removeCourse(trie, shared, previous);
+        }
+        if (updated != null) {
+            addCourse(trie, shared, updated);
+            courses.put(courseId, updated);
+        }
+    }
+
+    private static void addCourse(Trie trie, Map<String, Suggestion> shared, CourseTerms terms) {
+        trie.insert(new Suggestion("course", terms.name, terms.courseId, terms.popularity));
+        for (String tag : terms.tags) {
+            addContribution(trie, shared, "tag", tag, terms);
+        }
+        if (terms.category != null) {
+            addContribution(trie, shared, "category", terms.category, terms);
+        }
+        if (terms.instructor != null) {
+            addContribution(trie, shared, "instructor", terms.instructor, terms);
+        }
+    }
+
+    private static void removeCourse(Trie trie, Map<String, Suggestion> shared, CourseTerms terms) {
+        trie.remove(terms.name, s -> "course".equals(s.type) && terms.courseId == s.courseId);
+        for (String tag : terms.tags) {
+            removeContribution(trie, shared, "tag", tag, terms.courseId);
+        }
+        if (terms.category != null) {
+            removeContribution(trie, shared, "category", terms.category, terms.courseId);
+        }
+        if (terms.instructor != null) {
+            removeContribution(trie, shared, "instructor", terms.instructor, terms.courseId);
+        }
+    }
+
+    private static void addContribution(Trie trie, Map<String, Suggestion> shared, String type, String text,
+                                        CourseTerms terms) {
+        String key = type + ":" + normalize(text);
+        Suggestion existing = shared.get(key);
+        if (existing != null) {
+            trie.remove(existing.text, s -> s == existing);
+        }
+        Suggestion suggestion = existing != null ? existing : new Suggestion(type, text, null, 0);
+        suggestion.contributions.put(terms.courseId, terms.popularity);
+        suggestion.popularity = suggestion.contributions.values().stream().mapToLong(Long::longValue).sum();
+        shared.put(key, suggestion);
+        trie.insert(suggestion);
+    }
+
+    private static void removeContribution(Trie trie, Map<String, Suggestion> shared, String type, String text,
+                                           int courseId) {
+        String key = type + ":" + normalize(text);
+        Suggestion existing = shared.get(key);
+        if (existing == null) {
+            return;
+        }
+        trie.remove(existing.text, s -> s == existing);
+        existing.contributions.remove(courseId);
+        if (existing.contributions.isEmpty()) {
+            shared.remove(key);
+            return;
+        }
+        existing.popularity = existing.contributions.values().stream().mapToLong(Long::longValue).sum();
+        trie.insert(existing);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    /** "spring boot basics" -> ["spring boot basics", "boot basics", "basics"] */
+    private static List<String> wordStartSuffixes(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String[] words = normalized.split(" ");
+        Set<String> suffixes = new LinkedHashSet<>();
+        for (int i = 0; i < Math.min(words.length, MAX_INDEXED_WORDS); i++) {
+            suffixes.add(String.join(" ", Arrays.asList(words).subList(i, words.length)));
+        }
+        return new ArrayList<>(suffixes);
+    }
+
+    private static String displayCategory(Category category) {
+        String[] words = category.name().toLowerCase(Locale.ROOT).split("_");
+        StringBuilder sb = new StringBuilder();
+        for (String word : words) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+        }
+        return sb.toString();
+    }
+
+    // ---- data structures ----
+
+    private static final class CourseTerms {
+        final int courseId;
+        final String name;
+        final Set<String> tags;
+        final String category;
+        final String instructor;
+        final long popularity;
+
+        private CourseTerms(int courseId, String name, Set<String> tags, String category, String instructor,
+                            long popularity) {
+            this.courseId = courseId;
+            this.name = name;
+            this.tags = tags;
+            this.category = category;
+            this.instructor = instructor;
+            this.popularity = popularity;
+        }
+
+        static CourseTerms of(Course course, long popularity) {
+            Set<String> tags = course.getTags() == null ? Collections.emptySet() : course.getTags().stream()
+                    .map(TagsEntity::getName)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return new CourseTerms(
+                    course.getId(),
+                    course.getName(),
+                    tags,
+                    course.getCategory() != null ? displayCategory(course.getCategory()) : null,
+                    course.getCreatedBy() != null ? course.getCreatedBy().getName() : null,
+                    popularity);
+        }
+    }
+
+    private static final class Suggestion {
+        final String type;
+        final String text;
+        final Integer courseId;
+        long popularity;
+        // courseId -> popularity, for tag / category / instructor suggestions
+        final Map<Integer, Long> contributions = new HashMap<>();
+
+        Suggestion(String type, String text, Integer courseId, long popularity) {
+            this.type = type;
+            this.text = text;
+            this.courseId = courseId;
+            this.popularity = popularity;
+        }
+
+        CourseSuggestionDto toDto() {
+            return new CourseSuggestionDto(text, type, courseId, popularity);
+        }
+    }
+
+    private static final class Node {
+        private static final Suggestion[] EMPTY = new Suggestion[0];
+
+        // Sorted child keys with parallel child array, kept small instead of a map per node
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        List<Suggestion> terminals;
+        Suggestion[] top = EMPTY;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && (terminals == null || terminals.isEmpty());
+        }
+
+        void recomputeTop() {
+            Map<Suggestion, Boolean> candidates = new IdentityHashMap<>();
+            if (terminals != null) {
+                terminals.forEach(s -> candidates.put(s, Boolean.TRUE));
+            }
+            for (Node child : children) {
+                for (Suggestion s : child.top) {
+                    candidates.put(s, Boolean.TRUE);
+                }
+            }
+            top = candidates.keySet().stream()
+                    .sorted(BY_POPULARITY)
+                    .limit(TOP_K)
+                    .toArray(Suggestion[]::new);
+        }
+    }
+
+    private static final class Trie {
+        final Node root = new Node();
+
+        Node find(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node;
+        }
+
+        void insert(Suggestion suggestion) {
+            for (String suffix : wordStartSuffixes(suggestion.text)) {
+                Node[] path = new Node[suffix.length() + 1];
+                path[0] = root;
+                for (int i = 0; i < suffix.length(); i++) {
+                    path[i + 1] = path[i].getOrCreateChild(suffix.charAt(i));
+                }
+                Node leaf = path[suffix.length()];
+                if (leaf.terminals == null) {
+                    leaf.terminals = new ArrayList<>(1);
+                }
+                leaf.terminals.add(suggestion);
+                for (int i = path.length - 1; i >= 0; i--) {
+                    path[i].recomputeTop();
+                }
+            }
+        }
+
+        void remove(String text, Predicate<Suggestion> match) {
+            suffixes:
+            for (String suffix : wordStartSuffixes(text)) {
+                Node[] path = new Node[suffix.length() + 1];
+                path[0] = root;
+                for (int i = 0; i < suffix.length(); i++) {
+                    path[i + 1] = path[i].child(suffix.charAt(i));
+                    if (path[i + 1] == null) {
+                        continue suffixes;
+                    }
+                }
+                Node leaf = path[suffix.length()];
+                if (leaf.terminals != null) {
+                    leaf.terminals.removeIf(match);
+                }
+                for (int i = path.length - 1; i >= 0; i--) {
+                    if (i > 0 && path[i].isEmpty()) {
+                        path[i - 1].removeChild(suffix.charAt(i - 1));
+                    } else {
+                        path[i].recomputeTop();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.e_learning_system.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped set of named, memoized loads backing one dashboard response.
+ * Each load runs at most once: inline on its first {@link Load#get()}, or ahead of
+ * time on the executor through {@link Load#prefetch()}. The wall time of every load
+ * and of every {@link #time timed} step is recorded under its name.
+ */
+final class DashboardLoads {
+
+    private final Executor executor;
+    // Guarded by itself; keeps stages in completion order for the log line
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    DashboardLoads(Executor executor) {
+        this.executor = executor;
+    }
+
+    <T> Load<T> load(String name, Supplier<T> loader) {
+        return new Load<>(name, loader);
+    }
+
+    <T> T time(String name, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(name, start);
+        }
+    }
+
+    Map<String, Long> timings() {
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    private void record(String name, long startNanos) {
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        synchronized (timings) {
+            timings.put(name, millis);
+        }
+    }
+
+    final class Load<T> {
+
+        private final String name;
+        private final Supplier<T> loader;
+        private final AtomicReference<CompletableFuture<T>> result = new AtomicReference<>();
+
+        private Load(String name, Supplier<T> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        /** Start loading on the executor unless the load has already started */
+        Load<T> prefetch() {
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            if (result.compareAndSet(null, mine)) {
+                executor.execute(() -> run(mine));
+            }
+            return this;
+        }
+
+        /** The loaded value, loading inline if nobody started it yet */
+        T get() {
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            if (result.compareAndSet(null, mine)) {
+                run(mine);
+            }
+            try {
+                return result.get().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw e;
+            }
+        }
+
+        private void run(CompletableFuture<T> target) {
+            long start = System.nanoTime();
+            try {
+                target.complete(loader.get());
+            } catch (Throwable e) {
+                target.completeExceptionally(e);
+            } finally {
+                record(name, start);
+            }
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.e_learning_system.Service.Interfaces;
 
-import com.example.e_learning_system.Entities.BaseEntity;
+import com.example.e_learning_system.Entities.AuditedEntity;
 
 import java.util.Map;
 
 public interface AuditLog {
-    void logChange(Long userId, BaseEntity entity, String action,
+    void logChange(Long userId, AuditedEntity entity, String action,
                    Map<String, Object> oldData, Map<String, Object> newData);
 }
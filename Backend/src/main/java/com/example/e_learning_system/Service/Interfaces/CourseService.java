@@ -1,6 +1,7 @@
 package com.example.e_learning_system.Service.Interfaces;
 
 import com.example.e_learning_system.Dto.CourseDtos.*;
+import com.example.e_learning_system.Dto.CursorPageDto;
 import com.example.e_learning_system.Dto.OrderDtos.IdOrderDto;
 
 import org.springframework.data.domain.Page;
@@ -12,6 +13,8 @@ public interface CourseService {
 
     List<CourseSummaryDto>  getCourses();
     Page<CourseSummaryDto> getCourses(CourseFilterDto filterDto, Pageable pageable);
+    CourseFacetsDto getCourseFacets(CourseFilterDto filterDto);
+    CursorPageDto<CourseSummaryDto> getCoursesByCursor(CourseFilterDto filterDto, String cursor, Pageable pageable, boolean includeTotal);
     CourseDetailsDto createCourse(CreateCourseDto request, Integer createdById );
     CourseDetailsDto getCourseById(Integer id);
     public void updateCourse(UpdateCourseDto updateCourseDto , int courseId);
@@ -1,9 +1,12 @@
 package com.example.e_learning_system.Service.Interfaces;
 
+import com.example.e_learning_system.Config.RevenueGranularity;
 import com.example.e_learning_system.Dto.MyCourseDtos.MyCoursesResponseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherCourseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherStatsDto;
+import com.example.e_learning_system.Dto.PaymentDtos.RevenuePointDto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -55,4 +58,15 @@ public interface MyCoursesService {
      * @return Course details with statistics
      */
     TeacherCourseDto getCourseDetails(Integer teacherId, Integer courseId);
+
+    /**
+     * Get revenue of the teacher's courses over time, from the daily rollups
+     * @param teacherId The teacher's user ID
+     * @param granularity Width of each period
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @return Revenue per period and currency
+     */
+    List<RevenuePointDto> getRevenueSeries(Integer teacherId, RevenueGranularity granularity,
+                                           LocalDate from, LocalDate to);
 }
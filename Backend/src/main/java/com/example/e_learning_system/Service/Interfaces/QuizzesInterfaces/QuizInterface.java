@@ -3,12 +3,12 @@ package com.example.e_learning_system.Service.Interfaces.QuizzesInterfaces;
 import com.example.e_learning_system.Dto.quizzes.CreateQuizDTO;
 import com.example.e_learning_system.Dto.quizzes.QuizResponseDTO;
 import com.example.e_learning_system.Dto.quizzes.UpdateQuizDTO;
-
-import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface QuizInterface {
      QuizResponseDTO createQuiz(Integer courseId , CreateQuizDTO createQuizDTO);
      QuizResponseDTO  updateQuiz(Integer quizId , UpdateQuizDTO updateQuizDTO);
-     List<QuizResponseDTO> getQuizzes(Integer courseId, Integer quizId, String title, Boolean isActive);
+     Page<QuizResponseDTO> getQuizzes(Integer courseId, Integer quizId, String title, Boolean isActive, Pageable pageable);
 
 }
@@ -0,0 +1,93 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.MyLearningDtos.CourseProgressDto;
+import com.example.e_learning_system.Repository.CourseModulesRepository;
+import com.example.e_learning_system.Repository.QuizRepository;
+import com.example.e_learning_system.Repository.QuizSubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes lesson/quiz progress for sets of (user, course) pairs with four grouped
+ * queries, whatever the number of users, courses, modules or quizzes involved.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LearningProgressService {
+
+    private final CourseModulesRepository courseModulesRepository;
+    private final QuizRepository quizRepository;
+    private final QuizSubmissionRepository quizSubmissionRepository;
+
+    /** Progress of one user in each of the given courses, keyed by course id */
+    public Map<Integer, CourseProgressDto> getProgress(Integer userId, Collection<Integer> courseIds) {
+        Map<Integer, CourseProgressDto> byCourse = new HashMap<>();
+        getProgress(Collections.singleton(userId), courseIds)
+                .forEach((key, progress) -> byCourse.put(key.courseId(), progress));
+        return byCourse;
+    }
+
+    /** Progress of every given user in every given course, keyed by (user, course) */
+    public Map<UserCourseKey, CourseProgressDto> getProgress(Collection<Integer> userIds, Collection<Integer> courseIds) {
+        if (userIds == null || userIds.isEmpty() || courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, int[]> lessonTotals = new HashMap<>();
+        for (Object[] row : courseModulesRepository.countLessonsByCourseIds(courseIds)) {
+            lessonTotals.put(toInt(row[0]), new int[]{toInt(row[1]), toInt(row[2])});
+        }
+        Map<Integer, Integer> quizTotals = new HashMap<>();
+        for (Object[] row : quizRepository.countActiveByCourseIds(courseIds)) {
+            quizTotals.put(toInt(row[0]), toInt(row[1]));
+        }
+        Map<UserCourseKey, Integer> watched = countPerUserCourse(courseModulesRepository.countWatchedLessons(userIds, courseIds));
+        Map<UserCourseKey, Integer> completed = countPerUserCourse(quizSubmissionRepository.countCompletedQuizzes(userIds, courseIds));
+
+        Map<UserCourseKey, CourseProgressDto> progress = new HashMap<>();
+        for (Integer userId : userIds) {
+            for (Integer courseId : courseIds) {
+                UserCourseKey key = new UserCourseKey(userId, courseId);
+                int[] lessons = lessonTotals.getOrDefault(courseId, new int[]{0, 0});
+                int totalQuizzes = quizTotals.getOrDefault(courseId, 0);
+                int watchedLessons = watched.getOrDefault(key, 0);
+                int completedQuizzes = completed.getOrDefault(key, 0);
+                progress.put(key, CourseProgressDto.builder()
+                        .userId(userId)
+                        .courseId(courseId)
+                        .totalModules(lessons[0])
+                        .totalLessons(lessons[1])
+                        .watchedLessons(watchedLessons)
+                        .totalQuizzes(totalQuizzes)
+                        .completedQuizzes(completedQuizzes)
+                        .progressPercentage(CourseProgressDto.progressPercentage(
+                                watchedLessons, lessons[1], completedQuizzes, totalQuizzes))
+                        .build());
+            }
+        }
+        return progress;
+    }
+
+    private static Map<UserCourseKey, Integer> countPerUserCourse(List<Object[]> rows) {
+        Map<UserCourseKey, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(new UserCourseKey(toInt(row[0]), toInt(row[1])), toInt(row[2]));
+        }
+        return counts;
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    public record UserCourseKey(int userId, int courseId) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.MyLearningDtos.LearningStreakDto;
+import com.example.e_learning_system.Dto.MyLearningDtos.StreakLeaderboardEntryDto;
+import com.example.e_learning_system.Entities.UserActivityDays;
+import com.example.e_learning_system.Repository.UserActivityDaysRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Learning streaks from a per-user daily activity bitmap (user_activity_days).
+ *
+ * Bit 0 of the bitmap is the user's last active day and bit n the day n days before,
+ * over a rolling window of {@link #WINDOW_DAYS}. Marking a new day is a left shift by
+ * the gap plus setting bit 0; the current streak is the run of ones from bit 0 and the
+ * longest streak the longest run anywhere, both found with bit operations.
+ *
+ * Write methods join the caller's transaction. Only the first activity of a user per
+ * day touches the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class LearningStreakService {
+
+    static final int WINDOW_DAYS = 730;
+    private static final BigInteger WINDOW_MASK = BigInteger.ONE.shiftLeft(WINDOW_DAYS).subtract(BigInteger.ONE);
+
+    private final UserActivityDaysRepository userActivityDaysRepository;
+
+    // Users whose activity for recordedDay is already committed
+    private volatile RecordedDay recordedDay = new RecordedDay(LocalDate.MIN);
+
+    public void recordActivity(Integer userId) {
+        if (userId == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        RecordedDay recorded = recordedDay(today);
+        if (recorded.userIds.contains(userId)) {
+            return;
+        }
+
+        userActivityDaysRepository.insertIfAbsent(userId);
+        UserActivityDays row = userActivityDaysRepository.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("Activity row missing for user " + userId));
+        markDay(row, today);
+        row.setUpdatedAt(LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recorded.userIds.add(userId);
+                }
+            });
+        } else {
+            recorded.userIds.add(userId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public LearningStreakDto getStreak(Integer userId) {
+        return userActivityDaysRepository.findById(userId)
+                .map(this::toDto)
+                .orElseGet(() -> LearningStreakDto.builder().userId(userId).build());
+    }
+
+    /** Streaks of many users at once, in the order of {@code userIds}; unknown users have zero streaks */
+    @Transactional(readOnly = true)
+    public List<LearningStreakDto> getStreaks(Collection<Integer> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, UserActivityDays> rows = userActivityDaysRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserActivityDays::getUserId, Function.identity()));
+        return userIds.stream()
+                .distinct()
+                .map(userId -> rows.containsKey(userId)
+                        ? toDto(rows.get(userId))
+                        : LearningStreakDto.builder().userId(userId).build())
+                .collect(Collectors.toList());
+    }
+
+    /** Users with the longest live streaks */
+    @Transactional(readOnly = true)
+    public List<StreakLeaderboardEntryDto> getLeaderboard(int limit) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        return userActivityDaysRepository.findLiveStreaks(yesterday, PageRequest.of(0, limit)).stream()
+                .map(row -> StreakLeaderboardEntryDto.builder()
+                        .userId(row.getUserId())
+                        .currentStreak(row.getCurrentStreak())
+                        .longestStreak(row.getLongestStreak())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /** Set {@code day} in the row's bitmap and update its streak counters */
+    static void markDay(UserActivityDays row, LocalDate day) {
+        BigInteger days = row.getDays() != null ? new BigInteger(1, row.getDays()) : BigInteger.ZERO;
+        LocalDate last = row.getLastActiveDay();
+
+        if (last == null || day.isAfter(last)) {
+            long gap = last == null ? WINDOW_DAYS : ChronoUnit.DAYS.between(last, day);
+            days = gap >= WINDOW_DAYS ? BigInteger.ZERO : days.shiftLeft((int) gap).and(WINDOW_MASK);
+            days = days.setBit(0);
+            row.setLastActiveDay(day);
+        } else {
+            // Late write for an earlier day (e.g. a delayed flush around midnight)
+            long offset = ChronoUnit.DAYS.between(day, last);
+            if (offset >= WINDOW_DAYS || days.testBit((int) offset)) {
+                return;
+            }
+            days = days.setBit((int) offset);
+        }
+
+        row.setDays(days.toByteArray());
+        row.setCurrentStreak(trailingOnes(days));
+        row.setLongestStreak(Math.max(row.getLongestStreak(), longestRun(days)));
+    }
+
+    /** Length of the run of set bits starting at bit 0 */
+    static int trailingOnes(BigInteger bits) {
+        return bits.not().getLowestSetBit();
+    }
+
+    /** Length of the longest run of set bits: each x & (x >> 1) shortens every run by one */
+    static int longestRun(BigInteger bits) {
+        int length = 0;
+        while (bits.signum() != 0) {
+            bits = bits.and(bits.shiftRight(1));
+            length++;
+        }
+        return length;
+    }
+
+    private LearningStreakDto toDto(UserActivityDays row) {
+        LocalDate last = row.getLastActiveDay();
+        // The stored streak is as of the last active day; it breaks after a day without activity
+        boolean alive = last != null && !last.isBefore(LocalDate.now().minusDays(1));
+        return LearningStreakDto.builder()
+                .userId(row.getUserId())
+                .currentStreak(alive ? row.getCurrentStreak() : 0)
+                .longestStreak(row.getLongestStreak())
+                .lastActiveDay(last)
+                .build();
+    }
+
+    private RecordedDay recordedDay(LocalDate today) {
+        RecordedDay current = recordedDay;
+        if (!current.day.equals(today)) {
+            synchronized (this) {
+                current = recordedDay;
+                if (!current.day.equals(today)) {
+                    current = new RecordedDay(today);
+                    recordedDay = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class RecordedDay {
+        private final LocalDate day;
+        private final Set<Integer> userIds = ConcurrentHashMap.newKeySet();
+
+        private RecordedDay(LocalDate day) {
+            this.day = day;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.e_learning_system.Service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 import java.util.stream.Collectors;
 import com.example.e_learning_system.Dto.ModuleDtos.CreateModuleDto;
@@ -10,9 +12,11 @@ import com.example.e_learning_system.Dto.OrderDtos.IdOrderDto;
 import com.example.e_learning_system.Entities.ModuleVideos;
 import com.example.e_learning_system.Entities.UserEntity;
 import com.example.e_learning_system.Entities.VideoEntity;
+import com.example.e_learning_system.Events.CourseChangedEvent;
 import com.example.e_learning_system.Service.Interfaces.ModuleService;
 import com.example.e_learning_system.Mapper.ModuleMapper;
 import com.example.e_learning_system.Mapper.VideoMapper;
+import com.example.e_learning_system.Repository.CourseModulesRepository;
 import com.example.e_learning_system.Repository.ModuleRepository;
 import com.example.e_learning_system.Repository.ModuleVideosRepository;
 import com.example.e_learning_system.Repository.UserRepository;
@@ -27,12 +31,19 @@ public class ModuleServiceImpl implements ModuleService {
     private final VideoRepository videoRepository;
     private final ModuleVideosRepository moduleVideosRepository;
     private final UserRepository userRepository;
+    private final UserCourseProgressService userCourseProgressService;
+    private final CourseModulesRepository courseModulesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ModuleServiceImpl(ModuleRepository moduleRepository, VideoRepository videoRepository, ModuleVideosRepository moduleVideosRepository, UserRepository userRepository) {
+    public ModuleServiceImpl(ModuleRepository moduleRepository, VideoRepository videoRepository, ModuleVideosRepository moduleVideosRepository, UserRepository userRepository, UserCourseProgressService userCourseProgressService,
+                             CourseModulesRepository courseModulesRepository, ApplicationEventPublisher eventPublisher) {
         this.moduleRepository = moduleRepository;
         this.videoRepository = videoRepository;
         this.moduleVideosRepository = moduleVideosRepository;
         this.userRepository = userRepository;
+        this.userCourseProgressService = userCourseProgressService;
+        this.courseModulesRepository = courseModulesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -58,12 +69,14 @@ public class ModuleServiceImpl implements ModuleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DetailedModuleDto getModule(int moduleId) {
         Optional<Module> module = moduleRepository.findById(moduleId);
         return module.map(ModuleMapper::fromModuleToDetailedModuleDto).orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<com.example.e_learning_system.Dto.VideoDtos.VideoDto> getModuleLessons(int moduleId) {
         Module module = moduleRepository.findById(moduleId)
                 .orElseThrow(() -> new RuntimeException("Module not found"));
@@ -72,6 +85,7 @@ public class ModuleServiceImpl implements ModuleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public com.example.e_learning_system.Dto.VideoDtos.VideoDto getLessonInModule(int moduleId, int lessonId) {
         Module module = moduleRepository.findById(moduleId)
                 .orElseThrow(() -> new RuntimeException("Module not found"));
@@ -87,6 +101,7 @@ public class ModuleServiceImpl implements ModuleService {
     }
 
     @Override
+    @Transactional
     public void addVideoToModule(int moduleId, int videoId , int order ) {
         if(order < 0 ){
             return;
@@ -103,6 +118,8 @@ public class ModuleServiceImpl implements ModuleService {
                 newModuleVideo.setModule(module);
                 newModuleVideo.setVideo(video);
                 moduleVideosRepository.save(newModuleVideo);
+                userCourseProgressService.refreshCoursesContainingModule(moduleId);
+                publishModuleChanged(moduleId);
             }else {
                 throw new RuntimeException("video order already exist");
             }
@@ -111,11 +128,14 @@ public class ModuleServiceImpl implements ModuleService {
     }
 
     @Override
+    @Transactional
     public void removeVideoFromModule(int moduleId, int videoId ) {
         Optional<ModuleVideos> moduleVideo = moduleVideosRepository.findByModuleIdAndVideoId(moduleId, videoId);
         moduleVideo.orElseThrow(() -> new RuntimeException("Video is not associated with this module"));
 
         moduleVideo.ifPresent(moduleVideosRepository::delete);
+        userCourseProgressService.refreshCoursesContainingModule(moduleId);
+        publishModuleChanged(moduleId);
     }
 
     @Override
@@ -168,6 +188,7 @@ public class ModuleServiceImpl implements ModuleService {
         }
 
         moduleVideosRepository.saveAll(moduleVideos);
+        publishModuleChanged(moduleId);
     }
 
     @Override
@@ -177,6 +198,14 @@ public class ModuleServiceImpl implements ModuleService {
             Module moduleToUpdate = module.get();
             ModuleMapper.fromUpdateModuleDtoToModule(updateModuleDto, moduleToUpdate);
             moduleRepository.save(moduleToUpdate);
+            publishModuleChanged(moduleId);
+        }
+    }
+
+    // Course details embed module summaries and lesson counts; let cached course views refresh
+    private void publishModuleChanged(int moduleId) {
+        for (Integer courseId : courseModulesRepository.findCourseIdsByModuleId(moduleId)) {
+            eventPublisher.publishEvent(new CourseChangedEvent(courseId, CourseChangedEvent.ChangeType.MODULES_CHANGED));
         }
     }
 }
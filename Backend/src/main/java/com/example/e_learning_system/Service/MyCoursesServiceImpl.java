@@ -1,8 +1,10 @@
 package com.example.e_learning_system.Service;
 
+import com.example.e_learning_system.Config.RevenueGranularity;
 import com.example.e_learning_system.Dto.MyCourseDtos.MyCoursesResponseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherCourseDto;
 import com.example.e_learning_system.Dto.MyCourseDtos.TeacherStatsDto;
+import com.example.e_learning_system.Dto.PaymentDtos.RevenuePointDto;
 import com.example.e_learning_system.Entities.*;
 import com.example.e_learning_system.Repository.*;
 import com.example.e_learning_system.Service.Interfaces.MyCoursesService;
@@ -14,9 +16,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,10 +34,13 @@ public class MyCoursesServiceImpl implements MyCoursesService {
     private final UserCourseAccessRepository userCourseAccessRepository;
     private final CourseModulesRepository courseModulesRepository;
     private final QuizRepository quizRepository;
-    private final QuizSubmissionRepository quizSubmissionRepository;
-    private final UserFeedbackRepository userFeedbackRepository;
-    private final SimplePaymentRepository simplePaymentRepository;
-    private final ModuleVideosRepository moduleVideosRepository;
+    private final RevenueRollupService revenueRollupService;
+    private final CourseRankService courseRankService;
+    private final CourseStatsService courseStatsService;
+    private final UserCourseProgressService userCourseProgressService;
+
+    private static final int[] NO_COUNTS = {0, 0};
+    private static final BigDecimal[] NO_REVENUE = {BigDecimal.ZERO, BigDecimal.ZERO};
 
     @Value("${app.public-base-url:http://localhost:5000}")
     private String publicBaseUrl;
@@ -42,20 +49,15 @@ public class MyCoursesServiceImpl implements MyCoursesService {
     public MyCoursesResponseDto getMyCoursesDashboard(Integer teacherId) {
         log.info("Getting My Courses dashboard for teacher {}", teacherId);
 
-        // Verify user exists
-        userRepository.findById(teacherId)
-                .orElseThrow(() -> ResourceNotFound.userNotFound(teacherId.toString()));
-
-        TeacherStatsDto stats = getTeacherStats(teacherId);
-        List<TeacherCourseDto> courses = getTeacherCourses(teacherId);
-        List<TeacherCourseDto> recentlyUpdated = getRecentlyUpdatedCourses(teacherId, 5);
-        List<TeacherCourseDto> topPerforming = getTopPerformingCourses(teacherId, 5);
+        List<Course> courses = courseRepository.findByCreatedBy(findTeacher(teacherId));
+        CourseAggregates aggregates = loadAggregates(courses);
+        List<TeacherCourseDto> courseDtos = buildTeacherCourseDtos(courses, aggregates);
 
         return MyCoursesResponseDto.builder()
-                .stats(stats)
-                .courses(courses)
-                .recentlyUpdatedCourses(recentlyUpdated)
-                .topPerformingCourses(topPerforming)
+                .stats(buildTeacherStats(courses, aggregates))
+                .courses(courseDtos)
+                .recentlyUpdatedCourses(courseDtos.stream().limit(5).collect(Collectors.toList()))
+                .topPerformingCourses(topPerforming(teacherId, courseDtos, 5))
                 .build();
     }
 
@@ -63,29 +65,125 @@ public class MyCoursesServiceImpl implements MyCoursesService {
     public List<TeacherCourseDto> getTeacherCourses(Integer teacherId) {
         log.info("Getting all courses for teacher {}", teacherId);
 
-        UserEntity teacher = userRepository.findById(teacherId)
-                .orElseThrow(() -> ResourceNotFound.userNotFound(teacherId.toString()));
+        List<Course> courses = courseRepository.findByCreatedBy(findTeacher(teacherId));
+        return buildTeacherCourseDtos(courses, loadAggregates(courses));
+    }
 
-        List<Course> courses = courseRepository.findByCreatedBy(teacher);
+    @Override
+    public TeacherStatsDto getTeacherStats(Integer teacherId) {
+        log.info("Getting teacher stats for teacher {}", teacherId);
 
-        return courses.stream()
-                .map(this::buildTeacherCourseDto)
-                .sorted(Comparator.comparing(TeacherCourseDto::getUpdatedAt).reversed())
+        List<Course> courses = courseRepository.findByCreatedBy(findTeacher(teacherId));
+        return buildTeacherStats(courses, loadAggregates(courses));
+    }
+
+    @Override
+    public List<TeacherCourseDto> getRecentlyUpdatedCourses(Integer teacherId, int limit) {
+        log.info("Getting recently updated courses for teacher {}", teacherId);
+
+        return getTeacherCourses(teacherId).stream()
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public TeacherStatsDto getTeacherStats(Integer teacherId) {
-        log.info("Getting teacher stats for teacher {}", teacherId);
+    public List<TeacherCourseDto> getTopPerformingCourses(Integer teacherId, int limit) {
+        log.info("Getting top performing courses for teacher {}", teacherId);
+
+        findTeacher(teacherId);
+
+        // Only the top ranked courses are loaded, never all of the teacher's courses
+        List<Integer> topIds = courseRankService.getTopCourseIds(teacherId, limit);
+        if (topIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Course> courses = courseRepository.findAllById(topIds);
+        Map<Integer, TeacherCourseDto> byId = buildTeacherCourseDtos(courses, loadAggregates(courses)).stream()
+                .collect(Collectors.toMap(TeacherCourseDto::getCourseId, Function.identity()));
+        return inRankOrder(topIds, byId);
+    }
+
+    @Override
+    public List<RevenuePointDto> getRevenueSeries(Integer teacherId, RevenueGranularity granularity,
+                                                  LocalDate from, LocalDate to) {
+        log.info("Getting {} revenue of teacher {} from {} to {}", granularity, teacherId, from, to);
+
+        List<Integer> courseIds = courseRepository.findByCreatedBy(findTeacher(teacherId)).stream()
+                .map(Course::getId)
+                .collect(Collectors.toList());
+        return revenueRollupService.getSeries(courseIds, granularity, from, to);
+    }
+
+    @Override
+    public TeacherCourseDto getCourseDetails(Integer teacherId, Integer courseId) {
+        log.info("Getting course details for teacher {} and course {}", teacherId, courseId);
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> ResourceNotFound.courseNotFound(courseId.toString()));
 
-        UserEntity teacher = userRepository.findById(teacherId)
+        if (course.getCreatedBy().getId() != teacherId) {
+            throw new ResourceNotFound("Course", courseId.toString());
+        }
+
+        return buildTeacherCourseDtos(List.of(course), loadAggregates(List.of(course))).get(0);
+    }
+
+    private UserEntity findTeacher(Integer teacherId) {
+        return userRepository.findById(teacherId)
                 .orElseThrow(() -> ResourceNotFound.userNotFound(teacherId.toString()));
+    }
 
-        List<Course> courses = courseRepository.findByCreatedBy(teacher);
+    /** Top ranked of already built course rows */
+    private List<TeacherCourseDto> topPerforming(Integer teacherId, List<TeacherCourseDto> courses, int limit) {
+        Map<Integer, TeacherCourseDto> byId = courses.stream()
+                .collect(Collectors.toMap(TeacherCourseDto::getCourseId, Function.identity()));
+        return inRankOrder(courseRankService.getTopCourseIds(teacherId, limit), byId);
+    }
+
+    private static List<TeacherCourseDto> inRankOrder(List<Integer> rankedIds, Map<Integer, TeacherCourseDto> byId) {
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
+    /**
+     * Enrollment, revenue, content, quiz, rating and completion figures of all the given
+     * courses, each from one grouped query, whatever the number of courses.
+     */
+    private CourseAggregates loadAggregates(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return new CourseAggregates(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        List<Integer> courseIds = courses.stream().map(Course::getId).collect(Collectors.toList());
+        LocalDateTime oneMonthAgo = LocalDateTime.now().minus(30, ChronoUnit.DAYS);
+
+        Map<Integer, int[]> enrollments = new HashMap<>();
+        for (Object[] row : userCourseAccessRepository.summarizeActiveByCourseIds(courseIds, oneMonthAgo)) {
+            enrollments.put(toInt(row[0]), new int[]{toInt(row[1]), toInt(row[2])});
+        }
+        Map<Integer, BigDecimal[]> revenue = new HashMap<>();
+        revenueRollupService.getCourseRevenue(courseIds, oneMonthAgo.toLocalDate())
+                .forEach((courseId, courseRevenue) -> revenue.put(courseId,
+                        new BigDecimal[]{courseRevenue.total(), courseRevenue.since()}));
+        Map<Integer, int[]> content = new HashMap<>();
+        for (Object[] row : courseModulesRepository.countActiveContentByCourseIds(courseIds)) {
+            content.put(toInt(row[0]), new int[]{toInt(row[1]), toInt(row[2])});
+        }
+        Map<Integer, Integer> quizzes = new HashMap<>();
+        for (Object[] row : quizRepository.countActiveByCourseIds(courseIds)) {
+            quizzes.put(toInt(row[0]), toInt(row[1]));
+        }
+
+        return new CourseAggregates(enrollments, revenue, content, quizzes,
+                courseStatsService.getStats(courseIds),
+                userCourseProgressService.getCompletionByCourse(courseIds));
+    }
+
+    private TeacherStatsDto buildTeacherStats(List<Course> courses, CourseAggregates aggregates) {
         int totalCourses = courses.size();
         int publishedCourses = (int) courses.stream().filter(Course::isActive).count();
-        int draftCourses = (int) courses.stream().filter(c -> !c.isActive()).count();
+        int draftCourses = totalCourses - publishedCourses;
 
         int totalStudents = 0;
         int activeStudents = 0;
@@ -96,68 +194,39 @@ public class MyCoursesServiceImpl implements MyCoursesService {
         int totalModules = 0;
         int totalVideos = 0;
         int totalQuizzes = 0;
-
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minus(30, ChronoUnit.DAYS);
+        int totalLearners = 0;
+        int totalCompletions = 0;
 
         for (Course course : courses) {
-            // Get enrollments
-            List<UserCourseAccess> accesses = userCourseAccessRepository
-                    .findByCourseIdAndIsActiveTrue(course.getId());
-            totalStudents += accesses.size();
-
-            // Count active students (accessed in last 30 days)
-            activeStudents += (int) accesses.stream()
-                    .filter(access -> access.getUpdatedAt() != null && 
-                            access.getUpdatedAt().isAfter(oneMonthAgo))
-                    .count();
-
-            // Calculate revenue
-            List<SimplePayment> payments = simplePaymentRepository.findByCourseId(course.getId());
-            for (SimplePayment payment : payments) {
-                BigDecimal amount = payment.getAmount() != null ? payment.getAmount() : BigDecimal.ZERO;
-                totalRevenue = totalRevenue.add(amount);
-
-                if (payment.getCreatedAt() != null && payment.getCreatedAt().isAfter(oneMonthAgo)) {
-                    monthlyRevenue = monthlyRevenue.add(amount);
-                }
-            }
-
-            // Count content
-            List<CourseModules> courseModules = courseModulesRepository
-                    .findByCourseAndIsActive(course, true);
-            totalModules += courseModules.size();
-
-            for (CourseModules cm : courseModules) {
-                com.example.e_learning_system.Entities.Module module = cm.getModule();
-                if (module != null) {
-                    // Count videos in module
-                    List<ModuleVideos> moduleVideos = moduleVideosRepository
-                            .findByModuleAndIsActive(module, true);
-                    totalVideos += moduleVideos.size();
-
-                    // Count quizzes for module
-                    // Note: Quizzes are related to course, not module in current schema
-                }
+            Integer courseId = course.getId();
+            int[] enrollments = aggregates.enrollments().getOrDefault(courseId, NO_COUNTS);
+            totalStudents += enrollments[0];
+            activeStudents += enrollments[1];
+
+            BigDecimal[] revenue = aggregates.revenue().getOrDefault(courseId, NO_REVENUE);
+            totalRevenue = totalRevenue.add(revenue[0]);
+            monthlyRevenue = monthlyRevenue.add(revenue[1]);
+
+            int[] content = aggregates.content().getOrDefault(courseId, NO_COUNTS);
+            totalModules += content[0];
+            totalVideos += content[1];
+            totalQuizzes += aggregates.quizzes().getOrDefault(courseId, 0);
+
+            CourseStats courseStats = aggregates.stats().get(courseId);
+            if (courseStats != null) {
+                totalEngagement += courseStats.getAverageRating();
+                totalReviews += courseStats.getReviewCount();
             }
 
-            // Count quizzes for course
-            List<QuizEntity> quizzes = quizRepository.findAll().stream()
-                    .filter(q -> q.getCourse() != null && q.getCourse().getId() == course.getId())
-                    .filter(QuizEntity::getIsActive)
-                    .collect(Collectors.toList());
-            totalQuizzes += quizzes.size();
-
-            // Get feedback
-            Double avgRating = userFeedbackRepository.findAverageRatingByCourseId(course.getId());
-            Integer reviewCount = userFeedbackRepository.findReviewCountByCourseId(course.getId());
-
-            if (avgRating != null && avgRating > 0) {
-                totalEngagement += avgRating;
+            UserCourseProgressService.CourseCompletion completion = aggregates.completion().get(courseId);
+            if (completion != null) {
+                totalLearners += completion.learners();
+                totalCompletions += completion.completions();
             }
-            totalReviews += (reviewCount != null ? reviewCount : 0);
         }
 
         double averageRating = totalCourses > 0 ? totalEngagement / totalCourses : 0.0;
+        double averageCompletionRate = totalLearners > 0 ? (totalCompletions * 100.0) / totalLearners : 0.0;
 
         return TeacherStatsDto.builder()
                 .totalCourses(totalCourses)
@@ -172,48 +241,23 @@ public class MyCoursesServiceImpl implements MyCoursesService {
                 .totalModules(totalModules)
                 .totalLessons(totalVideos)
                 .totalQuizzes(totalQuizzes)
-                .totalCompletions((int) (totalStudents * calcOverallCompletionRate(teacherId) / 100.0))
-                .averageCompletionRate(calcOverallCompletionRate(teacherId))
+                .totalCompletions(totalCompletions)
+                .averageCompletionRate(averageCompletionRate)
                 .build();
     }
 
-    @Override
-    public List<TeacherCourseDto> getRecentlyUpdatedCourses(Integer teacherId, int limit) {
-        log.info("Getting recently updated courses for teacher {}", teacherId);
-
-        return getTeacherCourses(teacherId).stream()
+    /** Course rows of the teacher dashboard, most recently updated first */
+    private List<TeacherCourseDto> buildTeacherCourseDtos(List<Course> courses, CourseAggregates aggregates) {
+        return courses.stream()
+                .map(course -> buildTeacherCourseDto(course, aggregates))
                 .sorted(Comparator.comparing(TeacherCourseDto::getUpdatedAt).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    public List<TeacherCourseDto> getTopPerformingCourses(Integer teacherId, int limit) {
-        log.info("Getting top performing courses for teacher {}", teacherId);
-
-        return getTeacherCourses(teacherId).stream()
-                .sorted(Comparator.comparing(TeacherCourseDto::getTotalEnrollments).reversed())
-                .limit(limit)
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public TeacherCourseDto getCourseDetails(Integer teacherId, Integer courseId) {
-        log.info("Getting course details for teacher {} and course {}", teacherId, courseId);
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> ResourceNotFound.courseNotFound(courseId.toString()));
-
-        if (course.getCreatedBy().getId() != teacherId) {
-            throw new ResourceNotFound("Course", courseId.toString());
-        }
-
-        return buildTeacherCourseDto(course);
-    }
-
-    private TeacherCourseDto buildTeacherCourseDto(Course course) {
+    private TeacherCourseDto buildTeacherCourseDto(Course course, CourseAggregates aggregates) {
+        Integer courseId = course.getId();
         TeacherCourseDto.TeacherCourseDtoBuilder builder = TeacherCourseDto.builder()
-                .courseId(course.getId())
+                .courseId(courseId)
                 .courseName(course.getName())
                 .description(course.getDescription())
                 .isPublished(course.isActive())
@@ -228,39 +272,19 @@ public class MyCoursesServiceImpl implements MyCoursesService {
                 .createdAt(course.getCreatedAt())
                 .updatedAt(course.getUpdatedAt());
 
-        // Get enrollments
-        List<UserCourseAccess> accesses = userCourseAccessRepository
-                .findByCourseIdAndIsActiveTrue(course.getId());
-        int totalEnrollments = accesses.size();
+        // Enrollments, and those active in the last 30 days
+        int[] enrollments = aggregates.enrollments().getOrDefault(courseId, NO_COUNTS);
 
-        // Count active enrollments (accessed in last 30 days)
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minus(30, ChronoUnit.DAYS);
-        int activeEnrollments = (int) accesses.stream()
-                .filter(access -> access.getUpdatedAt() != null && 
-                        access.getUpdatedAt().isAfter(oneMonthAgo))
-                .count();
-
-        // Calculate average progress
-        double totalProgress = 0.0;
-        int completedCourses = 0;
-        for (UserCourseAccess access : accesses) {
-            double progress = calculateCourseProgressForStudent(access.getUser().getId(), course.getId());
-            totalProgress += progress;
-            if (progress >= 100.0) {
-                completedCourses++;
-            }
-        }
-        double averageProgress = totalEnrollments > 0 ? totalProgress / totalEnrollments : 0.0;
+        // Average progress and completions of the enrolled learners
+        UserCourseProgressService.CourseCompletion completion = aggregates.completion().get(courseId);
+        double averageProgress = completion != null ? completion.averageProgress() : 0.0;
+        int completedCourses = completion != null ? completion.completions() : 0;
 
-        // Get ratings
-        Double avgRating = userFeedbackRepository.findAverageRatingByCourseId(course.getId());
-        Integer reviewCount = userFeedbackRepository.findReviewCountByCourseId(course.getId());
+        // Ratings
+        CourseStats courseStats = aggregates.stats().getOrDefault(courseId,
+                CourseStats.builder().courseId(courseId).build());
 
-        // Calculate revenue
-        List<SimplePayment> payments = simplePaymentRepository.findByCourseId(course.getId());
-        BigDecimal totalRevenue = payments.stream()
-                .map(p -> p.getAmount() != null ? p.getAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalRevenue = aggregates.revenue().getOrDefault(courseId, NO_REVENUE)[0];
 
         // Get thumbnail URL
         String thumbnailUrl = null;
@@ -272,130 +296,35 @@ public class MyCoursesServiceImpl implements MyCoursesService {
             }
         }
 
-        // Determine if course has recent activity
-        boolean hasRecentActivity = accesses.stream()
-                .anyMatch(access -> access.getUpdatedAt() != null && 
-                        access.getUpdatedAt().isAfter(oneMonthAgo));
-
-        // Get content count
-        List<CourseModules> courseModules = courseModulesRepository
-                .findByCourseAndIsActive(course, true);
-        int moduleCount = courseModules.size();
-
-        int videoCount = 0;
-        int quizCount = 0;
-        for (CourseModules cm : courseModules) {
-            com.example.e_learning_system.Entities.Module module = cm.getModule();
-            if (module != null) {
-                List<ModuleVideos> moduleVideos = moduleVideosRepository
-                        .findByModuleAndIsActive(module, true);
-                videoCount += moduleVideos.size();
-            }
-        }
-
-        // Count quizzes for course
-        quizCount = (int) quizRepository.findAll().stream()
-                .filter(q -> q.getCourse() != null && q.getCourse().getId() == course.getId())
-                .filter(QuizEntity::getIsActive)
-                .count();
+        int[] content = aggregates.content().getOrDefault(courseId, NO_COUNTS);
 
         return builder
                 .thumbnailUrl(thumbnailUrl)
-                .totalEnrollments(totalEnrollments)
-                .activeEnrollments(activeEnrollments)
+                .totalEnrollments(enrollments[0])
+                .activeEnrollments(enrollments[1])
                 .averageProgress(averageProgress)
                 .completions(completedCourses)
-                .averageRating(avgRating != null ? avgRating : 0.0)
-                .totalReviews(reviewCount != null ? reviewCount : 0)
+                .averageRating(courseStats.getAverageRating())
+                .totalReviews(courseStats.getReviewCount())
                 .totalRevenue(totalRevenue)
-                .totalModules(moduleCount)
-                .totalLessons(videoCount)
-                .totalQuizzes(quizCount)
+                .totalModules(content[0])
+                .totalLessons(content[1])
+                .totalQuizzes(aggregates.quizzes().getOrDefault(courseId, 0))
                 .totalDurationMinutes(course.getEstimatedDrationInHours() * 60)
-                .recentEnrollments30Days(hasRecentActivity ? activeEnrollments : 0)
+                .recentEnrollments30Days(enrollments[1])
                 .build();
     }
 
-    private double calculateCourseProgressForStudent(Integer userId, Integer courseId) {
-        // Get all modules for the course
-        Course course = courseRepository.findById(courseId).orElse(null);
-        if (course == null) return 0.0;
-
-        List<CourseModules> courseModules = courseModulesRepository
-                .findByCourseAndIsActive(course, true);
-
-        if (courseModules.isEmpty()) return 0.0;
-
-        UserEntity user = userRepository.findById(userId).orElse(null);
-        if (user == null) return 0.0;
-
-        int totalItems = 0;
-        int completedItems = 0;
-
-        for (CourseModules cm : courseModules) {
-            com.example.e_learning_system.Entities.Module module = cm.getModule();
-            if (module == null) continue;
-
-            // Count videos
-            List<ModuleVideos> moduleVideos = moduleVideosRepository
-                    .findByModuleAndIsActive(module, true);
-            for (ModuleVideos mv : moduleVideos) {
-                totalItems++;
-                VideoEntity video = mv.getVideo();
-                if (video != null && user.getWatchedVideos() != null && 
-                    user.getWatchedVideos().contains(video)) {
-                    completedItems++;
-                }
-            }
-
-            // Count quizzes
-            List<QuizEntity> quizzes = quizRepository.findAll().stream()
-                    .filter(q -> q.getCourse() != null && q.getCourse().getId() == courseId)
-                    .filter(QuizEntity::getIsActive)
-                    .collect(Collectors.toList());
-
-            for (QuizEntity quiz : quizzes) {
-                totalItems++;
-                boolean completed = quizSubmissionRepository.findAll().stream()
-                        .anyMatch(submission -> 
-                                submission.getUser() != null && 
-                                submission.getUser().getId() == userId &&
-                                submission.getQuiz() != null && 
-                                submission.getQuiz().getId() == quiz.getId());
-                if (completed) {
-                    completedItems++;
-                }
-            }
-        }
-
-        if (totalItems == 0) return 0.0;
-        return (completedItems * 100.0) / totalItems;
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
     }
 
-    private double calcOverallCompletionRate(Integer teacherId) {
-        UserEntity teacher = userRepository.findById(teacherId).orElse(null);
-        if (teacher == null) return 0.0;
-
-        List<Course> courses = courseRepository.findByCreatedBy(teacher);
-        if (courses.isEmpty()) return 0.0;
-
-        int totalEnrollments = 0;
-        int totalCompletions = 0;
-
-        for (Course course : courses) {
-            List<UserCourseAccess> accesses = userCourseAccessRepository
-                    .findByCourseIdAndIsActiveTrue(course.getId());
-
-            for (UserCourseAccess access : accesses) {
-                totalEnrollments++;
-                double progress = calculateCourseProgressForStudent(access.getUser().getId(), course.getId());
-                if (progress >= 100.0) {
-                    totalCompletions++;
-                }
-            }
-        }
-
-        if (totalEnrollments == 0) return 0.0;
-        return (totalCompletions * 100.0) / totalEnrollments;
+    /** Per-course figures keyed by course id; courses without rows have none yet */
+    private record CourseAggregates(Map<Integer, int[]> enrollments,
+                                    Map<Integer, BigDecimal[]> revenue,
+                                    Map<Integer, int[]> content,
+                                    Map<Integer, Integer> quizzes,
+                                    Map<Integer, CourseStats> stats,
+                                    Map<Integer, UserCourseProgressService.CourseCompletion> completion) {
     }
 }
@@ -1,6 +1,10 @@
 package com.example.e_learning_system.Service;
 
+import com.example.e_learning_system.Config.DashboardExecutor;
+import com.example.e_learning_system.Dto.MyLearningDtos.CoursePositionDto;
+import com.example.e_learning_system.Dto.MyLearningDtos.CourseProgressDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.EnrolledCourseDto;
+import com.example.e_learning_system.Dto.MyLearningDtos.LearningStreakDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.MyLearningResponseDto;
 import com.example.e_learning_system.Dto.MyLearningDtos.MyLearningStatsDto;
 import com.example.e_learning_system.Entities.*;
@@ -9,14 +13,21 @@ import com.example.e_learning_system.Service.Interfaces.MyLearningService;
 import com.example.e_learning_system.excpetions.ResourceNotFound;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,58 +36,111 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MyLearningServiceImpl implements MyLearningService {
 
+    private static final int CONTINUE_LEARNING_LIMIT = 5;
+    private static final int DEADLINE_DAYS = 30;
+
     private final UserCourseAccessRepository userCourseAccessRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
-    private final CourseModulesRepository courseModulesRepository;
-    private final QuizSubmissionRepository quizSubmissionRepository;
-    private final UserFeedbackRepository userFeedbackRepository;
-    private final QuizRepository quizRepository;
-    private final VideoRepository videoRepository;
+    private final CourseStatsService courseStatsService;
+    private final UserCourseProgressService userCourseProgressService;
+    private final WatchTimeService watchTimeService;
+    private final LearningStreakService learningStreakService;
+    private final CoursePositionService coursePositionService;
+    @Qualifier("dashboardExecutor")
+    private final DashboardExecutor dashboardExecutor;
 
     @Value("${app.public-base-url:http://localhost:5000}")
     private String publicBaseUrl;
 
+    /**
+     * Loads enrollments once, then progress, positions, courses and ratings concurrently
+     * on the dashboard executor (the user check, learning time and streak overlap the
+     * enrollment lookup); the four sections are assembled from those shared loads. No transaction
+     * is held here: each load runs its own.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MyLearningResponseDto getMyLearningDashboard(Integer userId) {
         log.info("Getting learning dashboard for user {}", userId);
-
-        // Verify user exists
-        userRepository.findById(userId)
-                .orElseThrow(() -> ResourceNotFound.userNotFound(userId.toString()));
-
-        MyLearningStatsDto stats = getLearningStats(userId);
-        List<EnrolledCourseDto> enrolledCourses = getEnrolledCourses(userId);
-        List<EnrolledCourseDto> continueLearning = getContinueLearning(userId, 5);
-        List<EnrolledCourseDto> upcomingDeadlines = getUpcomingDeadlines(userId, 30);
-
-        return MyLearningResponseDto.builder()
-                .stats(stats)
-                .enrolledCourses(enrolledCourses)
-                .continueLearning(continueLearning)
-                .upcomingDeadlines(upcomingDeadlines)
+        long start = System.nanoTime();
+
+        LearningContext context = new LearningContext(userId, null, new DashboardLoads(dashboardExecutor.executor()));
+        context.user.prefetch();
+        context.learningSeconds.prefetch();
+        context.streak.prefetch();
+        // Loaded on this thread so pool threads never wait on each other
+        context.accesses.get();
+        context.progress.prefetch();
+        context.positions.prefetch();
+        context.courses.prefetch();
+        context.stats.prefetch();
+        context.courseWatchSeconds.prefetch();
+        context.user.get();
+
+        DashboardLoads loads = context.loads;
+        MyLearningResponseDto response = MyLearningResponseDto.builder()
+                .stats(loads.time("statsSection", () -> buildStats(context)))
+                .enrolledCourses(loads.time("enrolledSection", () -> buildEnrolledCourses(context)))
+                .continueLearning(loads.time("continueSection",
+                        () -> buildContinueLearning(context, CONTINUE_LEARNING_LIMIT)))
+                .upcomingDeadlines(loads.time("deadlinesSection",
+                        () -> buildUpcomingDeadlines(context, DEADLINE_DAYS)))
                 .build();
+
+        log.info("Built learning dashboard for user {} in {} ms, stages (ms): {}",
+                userId, (System.nanoTime() - start) / 1_000_000, loads.timings());
+        return response;
     }
 
     @Override
     public List<EnrolledCourseDto> getEnrolledCourses(Integer userId) {
         log.info("Getting enrolled courses for user {}", userId);
-
-        List<UserCourseAccess> accesses = userCourseAccessRepository
-                .findActiveAccessesByUser(userId, LocalDateTime.now());
-
-        return accesses.stream()
-                .map(access -> buildEnrolledCourseDto(access))
-                .sorted(Comparator.comparing(EnrolledCourseDto::getEnrolledDate).reversed())
-                .collect(Collectors.toList());
+        return buildEnrolledCourses(newContext(userId));
     }
 
     @Override
     public MyLearningStatsDto getLearningStats(Integer userId) {
         log.info("Getting learning stats for user {}", userId);
+        return buildStats(newContext(userId));
+    }
+
+    @Override
+    public List<EnrolledCourseDto> getContinueLearning(Integer userId, int limit) {
+        log.info("Getting continue learning courses for user {}", userId);
+        return buildContinueLearning(newContext(userId), limit);
+    }
+
+    @Override
+    public List<EnrolledCourseDto> getUpcomingDeadlines(Integer userId, int daysThreshold) {
+        log.info("Getting courses with upcoming deadlines for user {}", userId);
+        return buildUpcomingDeadlines(newContext(userId), daysThreshold);
+    }
+
+    @Override
+    public EnrolledCourseDto getEnrolledCourseDetails(Integer userId, Integer courseId) {
+        log.info("Getting enrolled course details for user {} and course {}", userId, courseId);
 
-        List<UserCourseAccess> allAccesses = userCourseAccessRepository
-                .findActiveAccessesByUser(userId, LocalDateTime.now());
+        UserCourseAccess access = userCourseAccessRepository
+                .findActiveAccessByUserAndCourse(userId, courseId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "User does not have active access to this course"));
+
+        LearningContext context = new LearningContext(userId, List.of(access), new DashboardLoads(Runnable::run));
+        List<EnrolledCourseDto> dtos = buildEnrolledCourseDtos(context, List.of(access));
+        if (dtos.isEmpty()) {
+            throw ResourceNotFound.courseNotFound(courseId.toString());
+        }
+        return dtos.get(0);
+    }
+
+    /** Single-section requests load inline and only what the section needs */
+    private LearningContext newContext(Integer userId) {
+        return new LearningContext(userId, null, new DashboardLoads(Runnable::run));
+    }
+
+    private MyLearningStatsDto buildStats(LearningContext context) {
+        List<UserCourseAccess> allAccesses = context.accesses.get();
 
         int totalEnrolled = allAccesses.size();
         int activeCourses = 0;
@@ -85,53 +149,24 @@ public class MyLearningServiceImpl implements MyLearningService {
         int totalQuizzesCompleted = 0;
         double totalProgress = 0.0;
 
-        // Get user entity to check watched videos
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+        Map<Integer, CourseProgressDto> progressByCourse = context.progress.get();
         for (UserCourseAccess access : allAccesses) {
-            Course course = access.getCourse();
-            if (course == null) continue;
+            CourseProgressDto progress = progressByCourse.get(access.getCourse().getId());
+            if (progress == null) continue;
 
-            // Calculate progress
-            double progress = calculateCourseProgress(userId, course.getId());
-            totalProgress += progress;
-
-            if (progress >= 100.0) {
+            totalProgress += progress.getProgressPercentage();
+            if (progress.getProgressPercentage() >= 100.0) {
                 completedCourses++;
-            } else if (progress > 0) {
+            } else if (progress.getProgressPercentage() > 0) {
                 activeCourses++;
             }
 
-            // Count COMPLETED lessons (watched videos only) - using courseModules
-            if (course.getCourseModules() != null) {
-                for (CourseModules cm : course.getCourseModules()) {
-                    if (cm.getModule() != null && cm.getModule().getVideos() != null) {
-                        for (VideoEntity video : cm.getModule().getVideos()) {
-                            // Only count videos that the user has actually watched
-                            if (user.getWatchedVideos() != null && user.getWatchedVideos().contains(video)) {
-                                totalLessonsCompleted++;
-                            }
-                        }
-                    }
-                }
-            }
-
-            // Count completed quizzes for this course
-            List<QuizEntity> quizzes = quizRepository.findAll().stream()
-                    .filter(q -> q.getCourse() != null && q.getCourse().getId() == course.getId())
-                    .collect(Collectors.toList());
-            
-            for (QuizEntity quiz : quizzes) {
-                List<QuizSubmissionEntity> submissions = quizSubmissionRepository
-                        .findByQuizIdAndUserId(quiz.getId(), userId);
-                if (!submissions.isEmpty()) {
-                    totalQuizzesCompleted++;
-                }
-            }
+            totalLessonsCompleted += progress.getWatchedLessons();
+            totalQuizzesCompleted += progress.getCompletedQuizzes();
         }
 
         double avgProgress = totalEnrolled > 0 ? totalProgress / totalEnrolled : 0.0;
+        LearningStreakDto streak = context.streak.get();
 
         return MyLearningStatsDto.builder()
                 .totalEnrolledCourses(totalEnrolled)
@@ -139,111 +174,110 @@ public class MyLearningServiceImpl implements MyLearningService {
                 .completedCourses(completedCourses)
                 .totalLessonsCompleted(totalLessonsCompleted)
                 .totalQuizzesCompleted(totalQuizzesCompleted)
-                .totalLearningHours(0) // TODO: Calculate from video watch time
+                .totalLearningHours((int) (context.learningSeconds.get() / 3600))
                 .averageProgressPercentage(avgProgress)
                 .certificatesEarned(completedCourses)
-                .currentStreak(0) // TODO: Implement streak calculation
+                .currentStreak(streak.getCurrentStreak())
+                .longestStreak(streak.getLongestStreak())
                 .build();
     }
 
-    @Override
-    public List<EnrolledCourseDto> getContinueLearning(Integer userId, int limit) {
-        log.info("Getting continue learning courses for user {}", userId);
+    private List<EnrolledCourseDto> buildEnrolledCourses(LearningContext context) {
+        return buildEnrolledCourseDtos(context, context.accesses.get()).stream()
+                .sorted(Comparator.comparing(EnrolledCourseDto::getEnrolledDate).reversed())
+                .collect(Collectors.toList());
+    }
 
-        List<UserCourseAccess> accesses = userCourseAccessRepository
-                .findActiveAccessesByUser(userId, LocalDateTime.now());
+    private List<EnrolledCourseDto> buildContinueLearning(LearningContext context, int limit) {
+        Map<Integer, CourseProgressDto> progressByCourse = context.progress.get();
+        Map<Integer, CoursePositionDto> positions = context.positions.get();
 
-        return accesses.stream()
+        // Started but unfinished courses (some progress or a resume position), most recently studied first
+        List<UserCourseAccess> started = context.accesses.get().stream()
                 .filter(access -> {
-                    double progress = calculateCourseProgress(userId, access.getCourse().getId());
-                    return progress > 0 && progress < 100;
+                    Integer courseId = access.getCourse().getId();
+                    CourseProgressDto progress = progressByCourse.get(courseId);
+                    double percentage = progress != null ? progress.getProgressPercentage() : 0.0;
+                    return percentage < 100.0 && (percentage > 0 || positions.containsKey(courseId));
                 })
-                .sorted(Comparator.comparing(UserCourseAccess::getUpdatedAt).reversed())
+                .sorted(Comparator.comparing((UserCourseAccess access) -> lastAccessed(access,
+                                progressByCourse.get(access.getCourse().getId()),
+                                positions.get(access.getCourse().getId())),
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed())
                 .limit(limit)
-                .map(this::buildEnrolledCourseDto)
                 .collect(Collectors.toList());
-    }
 
-    @Override
-    public List<EnrolledCourseDto> getUpcomingDeadlines(Integer userId, int daysThreshold) {
-        log.info("Getting courses with upcoming deadlines for user {}", userId);
-
-        List<UserCourseAccess> accesses = userCourseAccessRepository
-                .findActiveAccessesByUser(userId, LocalDateTime.now());
+        return buildEnrolledCourseDtos(context, started);
+    }
 
+    private List<EnrolledCourseDto> buildUpcomingDeadlines(LearningContext context, int daysThreshold) {
         LocalDateTime threshold = LocalDateTime.now().plusDays(daysThreshold);
 
-        return accesses.stream()
+        List<UserCourseAccess> expiring = context.accesses.get().stream()
                 .filter(access -> access.getAccessUntil() != null 
                         && access.getAccessUntil().isBefore(threshold))
                 .sorted(Comparator.comparing(UserCourseAccess::getAccessUntil))
-                .map(this::buildEnrolledCourseDto)
                 .collect(Collectors.toList());
-    }
-
-    @Override
-    public EnrolledCourseDto getEnrolledCourseDetails(Integer userId, Integer courseId) {
-        log.info("Getting enrolled course details for user {} and course {}", userId, courseId);
-
-        UserCourseAccess access = userCourseAccessRepository
-                .findActiveAccessByUserAndCourse(userId, courseId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "User does not have active access to this course"));
 
-        return buildEnrolledCourseDto(access);
+        return buildEnrolledCourseDtos(context, expiring);
     }
 
     /**
-     * Build EnrolledCourseDto from UserCourseAccess
+     * Build one EnrolledCourseDto per access, in the given order, from the context's
+     * shared loads of courses (with their creator), progress, positions and rating stats.
      */
-    private EnrolledCourseDto buildEnrolledCourseDto(UserCourseAccess access) {
-        Course course = access.getCourse();
-        Integer userId = access.getUser().getId();
-        Integer courseId = course.getId();
-
-        // Get user to check watched videos
-        UserEntity user = access.getUser();
-
-        // Get course modules using courseModules relationship and count watched videos
-        int totalModules = 0;
-        int totalLessons = 0;
-        int completedLessons = 0;
-        
-        if (course.getCourseModules() != null) {
-            totalModules = course.getCourseModules().size();
-            for (CourseModules cm : course.getCourseModules()) {
-                if (cm.getModule() != null && cm.getModule().getVideos() != null) {
-                    for (VideoEntity video : cm.getModule().getVideos()) {
-                        if (video.getIsActive()) {
-                            totalLessons++;
-                            // Check if user has watched this video
-                            if (user.getWatchedVideos() != null && user.getWatchedVideos().contains(video)) {
-                                completedLessons++;
-                            }
-                        }
-                    }
-                }
-            }
+    private List<EnrolledCourseDto> buildEnrolledCourseDtos(LearningContext context, List<UserCourseAccess> accesses) {
+        if (accesses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Course> courses = context.courses.get();
+        Map<Integer, CourseProgressDto> progressByCourse = context.progress.get();
+        Map<Integer, CourseStats> statsByCourse = context.stats.get();
+        Map<Integer, CoursePositionDto> positions = context.positions.get();
+        Map<Integer, Long> watchSecondsByCourse = context.courseWatchSeconds.get();
+
+        List<EnrolledCourseDto> dtos = new ArrayList<>(accesses.size());
+        for (UserCourseAccess access : accesses) {
+            Integer courseId = access.getCourse().getId();
+            Course course = courses.get(courseId);
+            if (course == null) continue;
+            CourseProgressDto progress = progressByCourse.getOrDefault(courseId,
+                    CourseProgressDto.builder().userId(context.userId).courseId(courseId).build());
+            dtos.add(buildEnrolledCourseDto(access, course, progress, positions.get(courseId),
+                    statsByCourse.get(courseId), watchSecondsByCourse.getOrDefault(courseId, 0L)));
         }
+        return dtos;
+    }
 
-        // Get quizzes for this course
-        List<QuizEntity> quizzes = quizRepository.findAll().stream()
-                .filter(q -> q.getCourse() != null && q.getCourse().getId() == courseId)
-                .collect(Collectors.toList());
-        int totalQuizzes = quizzes.size();
-        
-        // Calculate completed quizzes
-        int completedQuizzes = 0;
-        for (QuizEntity quiz : quizzes) {
-            List<QuizSubmissionEntity> submissions = 
-                    quizSubmissionRepository.findByQuizIdAndUserId(quiz.getId(), userId);
-            if (!submissions.isEmpty()) {
-                completedQuizzes++;
-            }
+    private static Set<Integer> courseIdsOf(List<UserCourseAccess> accesses) {
+        return accesses.stream()
+                .map(access -> access.getCourse().getId())
+                .collect(Collectors.toSet());
+    }
+
+    /** Latest of the resume position update and the last lesson or quiz activity; the enrollment change otherwise */
+    private static LocalDateTime lastAccessed(UserCourseAccess access, CourseProgressDto progress,
+                                              CoursePositionDto position) {
+        LocalDateTime positionAt = position != null ? position.getUpdatedAt() : null;
+        LocalDateTime activityAt = progress != null ? progress.getLastActivityAt() : null;
+        if (positionAt == null && activityAt == null) {
+            return access.getUpdatedAt();
+        }
+        if (positionAt == null || (activityAt != null && activityAt.isAfter(positionAt))) {
+            return activityAt;
         }
+        return positionAt;
+    }
 
-        // Calculate progress
-        double progress = calculateCourseProgress(userId, courseId);
+    /**
+     * Build EnrolledCourseDto from UserCourseAccess, its course, the user's progress,
+     * resume position and watch time in it and the course's rating stats
+     */
+    private EnrolledCourseDto buildEnrolledCourseDto(UserCourseAccess access, Course course,
+                                                     CourseProgressDto progress, CoursePositionDto position,
+                                                     CourseStats stats,
+                                                     long watchedSeconds) {
+        Integer courseId = course.getId();
 
         // Get thumbnail URL
         String thumbnailUrl = null;
@@ -259,8 +293,8 @@ public class MyLearningServiceImpl implements MyLearningService {
             daysRemaining = Math.max(0, (int) days);
         }
 
-        // Get average rating
-        Double avgRating = userFeedbackRepository.findAverageRatingByCourseId(courseId);
+        // Average rating, null while the course has no ratings
+        Double avgRating = stats != null && stats.getRatingCount() > 0 ? stats.getAverageRating() : null;
 
         // Get instructor name
         String instructorName = course.getCreatedBy() != null 
@@ -276,24 +310,24 @@ public class MyLearningServiceImpl implements MyLearningService {
                 .category(course.getCategory())
                 .difficultyLevel(course.getDifficultyLevel())
                 .status(course.getStatus())
-                .totalModules(totalModules)
+                .totalModules(progress.getTotalModules())
                 .completedModules(0) // TODO: Implement module completion tracking
-                .totalLessons(totalLessons)
-                .completedLessons(completedLessons) // Now properly counting watched videos
-                .totalQuizzes(totalQuizzes)
-                .completedQuizzes(completedQuizzes)
-                .progressPercentage(progress)
+                .totalLessons(progress.getTotalLessons())
+                .completedLessons(progress.getWatchedLessons())
+                .totalQuizzes(progress.getTotalQuizzes())
+                .completedQuizzes(progress.getCompletedQuizzes())
+                .progressPercentage(progress.getProgressPercentage())
                 .totalDurationMinutes(course.getEstimatedDrationInHours() * 60)
-                .watchedDurationMinutes(0) // TODO: Implement watch time tracking
+                .watchedDurationMinutes((int) (watchedSeconds / 60))
                 .accessType(access.getAccessType())
                 .enrolledDate(access.getCreatedAt())
                 .accessUntil(access.getAccessUntil())
                 .isActive(access.getIsActive())
                 .hasLifetimeAccess(hasLifetimeAccess)
                 .daysRemaining(daysRemaining)
-                .lastAccessedDate(access.getUpdatedAt())
-                .currentModule(null) // TODO: Track current module
-                .currentLesson(null) // TODO: Track current lesson
+                .lastAccessedDate(lastAccessed(access, progress, position))
+                .currentModule(position != null ? position.getModuleName() : null)
+                .currentLesson(position != null ? position.getLessonTitle() : null)
                 .averageRating(avgRating)
                 .pricePaid(course.getOneTimePrice())
                 .packageId(null) // TODO: Add package info if accessed via package
@@ -302,87 +336,48 @@ public class MyLearningServiceImpl implements MyLearningService {
     }
 
     /**
-     * Calculate course progress based on quiz completion AND video watch completion
-     * Combines both metrics for accurate progress tracking
-     */
-    private double calculateCourseProgress(Integer userId, Integer courseId) {
-        // Get user to check watched videos
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> ResourceNotFound.userNotFound(userId.toString()));
-        
-        double quizProgress = calculateQuizProgress(userId, courseId);
-        double videoProgress = calculateVideoProgress(user, courseId);
-        
-        // If there are both quizzes and videos, average them
-        // If only one exists, use that as 100% of progress
-        if (quizProgress > 0 && videoProgress > 0) {
-            return (quizProgress + videoProgress) / 2.0;
-        } else if (quizProgress > 0) {
-            return quizProgress;
-        } else if (videoProgress > 0) {
-            return videoProgress;
-        }
-        
-        return 0.0;
-    }
-    
-    /**
-     * Calculate quiz completion progress
-     */
-    private double calculateQuizProgress(Integer userId, Integer courseId) {
-        // Get all quizzes for this course
-        List<QuizEntity> quizzes = quizRepository.findAll().stream()
-                .filter(q -> q.getCourse() != null && q.getCourse().getId() == courseId)
-                .collect(Collectors.toList());
-        
-        if (quizzes.isEmpty()) {
-            return 0.0;
-        }
-
-        int totalQuizzes = quizzes.size();
-        int completedQuizzes = 0;
-
-        for (QuizEntity quiz : quizzes) {
-            List<QuizSubmissionEntity> submissions = 
-                    quizSubmissionRepository.findByQuizIdAndUserId(quiz.getId(), userId);
-            if (!submissions.isEmpty()) {
-                completedQuizzes++;
-            }
-        }
-
-        return totalQuizzes > 0 ? (completedQuizzes * 100.0) / totalQuizzes : 0.0;
-    }
-    
-    /**
-     * Calculate video watch progress
+     * Loads shared by the sections of one request. Course-scoped loads wait for the
+     * enrollments, so they can be prefetched together with them.
      */
-    private double calculateVideoProgress(UserEntity user, Integer courseId) {
-        // Get all videos for this course through course modules
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> ResourceNotFound.courseNotFound(courseId.toString()));
-        
-        // Module.getVideos() already returns Set<VideoEntity>
-        List<VideoEntity> courseVideos = course.getCourseModules().stream()
-                .filter(cm -> cm.getModule() != null)
-                .flatMap(cm -> cm.getModule().getVideos().stream())
-                .filter(v -> v != null && v.getIsActive())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        if (courseVideos.isEmpty()) {
-            return 0.0;
-        }
-        
-        // Count how many videos the user has watched
-        int totalVideos = courseVideos.size();
-        int watchedVideos = 0;
-        
-        for (VideoEntity video : courseVideos) {
-            if (user.getWatchedVideos().contains(video)) {
-                watchedVideos++;
-            }
+    private final class LearningContext {
+
+        private final Integer userId;
+        private final DashboardLoads loads;
+        private final DashboardLoads.Load<UserEntity> user;
+        private final DashboardLoads.Load<List<UserCourseAccess>> accesses;
+        private final DashboardLoads.Load<Map<Integer, CourseProgressDto>> progress;
+        private final DashboardLoads.Load<Map<Integer, Course>> courses;
+        private final DashboardLoads.Load<Map<Integer, CourseStats>> stats;
+        private final DashboardLoads.Load<Map<Integer, CoursePositionDto>> positions;
+        private final DashboardLoads.Load<Long> learningSeconds;
+        private final DashboardLoads.Load<LearningStreakDto> streak;
+        private final DashboardLoads.Load<Map<Integer, Long>> courseWatchSeconds;
+
+        /** {@code knownAccesses}, when given, replaces the enrollment lookup */
+        LearningContext(Integer userId, List<UserCourseAccess> knownAccesses, DashboardLoads loads) {
+            this.userId = userId;
+            this.loads = loads;
+            this.user = loads.load("user", () -> userRepository.findById(userId)
+                    .orElseThrow(() -> ResourceNotFound.userNotFound(userId.toString())));
+            this.accesses = loads.load("accesses", () -> knownAccesses != null ? knownAccesses
+                    : userCourseAccessRepository.findActiveAccessesByUser(userId, LocalDateTime.now()));
+            this.progress = loads.load("progress",
+                    () -> userCourseProgressService.getProgress(userId, courseIdsOf(accesses.get())));
+            this.courses = loads.load("courses", () -> {
+                Set<Integer> courseIds = courseIdsOf(accesses.get());
+                if (courseIds.isEmpty()) {
+                    return Collections.<Integer, Course>emptyMap();
+                }
+                return courseRepository.findWithCreatorByIdIn(courseIds).stream()
+                        .collect(Collectors.toMap(Course::getId, Function.identity()));
+            });
+            this.stats = loads.load("ratings", () -> courseStatsService.getStats(courseIdsOf(accesses.get())));
+            this.positions = loads.load("positions",
+                    () -> coursePositionService.getPositions(userId, courseIdsOf(accesses.get())));
+            this.learningSeconds = loads.load("learningTime", () -> watchTimeService.getWatchedSeconds(userId));
+            this.streak = loads.load("streak", () -> learningStreakService.getStreak(userId));
+            this.courseWatchSeconds = loads.load("courseWatchTime",
+                    () -> watchTimeService.getWatchedSecondsByCourse(userId, courseIdsOf(accesses.get())));
         }
-        
-        return totalVideos > 0 ? (watchedVideos * 100.0) / totalVideos : 0.0;
     }
 }
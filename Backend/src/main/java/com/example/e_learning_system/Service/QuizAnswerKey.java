@@ -0,0 +1,100 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.excpetions.ClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything needed to grade a submission of one quiz: per question its mark, its
+ * option ids (sorted) and a bitset of which of those options are correct. Immutable,
+ * so a single compiled key is shared by all concurrent gradings.
+ */
+public final class QuizAnswerKey {
+
+    private final int quizId;
+    // Ordered by question id
+    private final Question[] questions;
+
+    private QuizAnswerKey(int quizId, Question[] questions) {
+        this.quizId = quizId;
+        this.questions = questions;
+    }
+
+    /**
+     * @param questionRows [questionId, questionMark] ordered by question id
+     * @param optionRows   [questionId, optionId, isCorrect]
+     */
+    public static QuizAnswerKey compile(int quizId, List<Object[]> questionRows, List<Object[]> optionRows) {
+        Map<Integer, List<Object[]>> optionsByQuestion = new HashMap<>();
+        for (Object[] row : optionRows) {
+            optionsByQuestion.computeIfAbsent(((Number) row[0]).intValue(), id -> new ArrayList<>()).add(row);
+        }
+
+        Question[] questions = new Question[questionRows.size()];
+        for (int i = 0; i < questions.length; i++) {
+            Object[] row = questionRows.get(i);
+            int questionId = ((Number) row[0]).intValue();
+            float mark = row[1] != null ? ((Number) row[1]).floatValue() : 0f;
+
+            List<Object[]> options = optionsByQuestion.getOrDefault(questionId, new ArrayList<>());
+            options.sort((a, b) -> Integer.compare(((Number) a[1]).intValue(), ((Number) b[1]).intValue()));
+            int[] optionIds = new int[options.size()];
+            BitSet correct = new BitSet(optionIds.length);
+            for (int j = 0; j < optionIds.length; j++) {
+                optionIds[j] = ((Number) options.get(j)[1]).intValue();
+                correct.set(j, Boolean.TRUE.equals(options.get(j)[2]));
+            }
+            questions[i] = new Question(questionId, mark, optionIds, correct);
+        }
+        return new QuizAnswerKey(quizId, questions);
+    }
+
+    public int getQuizId() {
+        return quizId;
+    }
+
+    public int getQuestionCount() {
+        return questions.length;
+    }
+
+    /**
+     * Grades the selected option of each question (absent: unanswered); answers to
+     * questions outside the quiz are ignored. Every question of the quiz gets a graded
+     * answer. Rejects an option that does not belong to its question.
+     */
+    public Grading grade(Map<Integer, Integer> selectedByQuestion) {
+        float score = 0f;
+        List<GradedAnswer> answers = new ArrayList<>(questions.length);
+        for (Question question : questions) {
+            Integer optionId = selectedByQuestion.get(question.id());
+            boolean isCorrect = false;
+            if (optionId != null) {
+                int index = Arrays.binarySearch(question.optionIds(), optionId);
+                if (index < 0) {
+                    throw ClientException.badRequest("Option " + optionId
+                            + " does not belong to question " + question.id());
+                }
+                isCorrect = question.correct().get(index);
+                if (isCorrect) {
+                    score += question.mark();
+                }
+            }
+            answers.add(new GradedAnswer(question.id(), optionId, isCorrect));
+        }
+        return new Grading(score, answers);
+    }
+
+    public record Grading(float score, List<GradedAnswer> answers) {
+    }
+
+    public record GradedAnswer(int questionId, Integer selectedOptionId, boolean isCorrect) {
+    }
+
+    private record Question(int id, float mark, int[] optionIds, BitSet correct) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Events.QuizChangedEvent;
+import com.example.e_learning_system.Repository.QuizOptionRepository;
+import com.example.e_learning_system.Repository.QuizQuestionRepository;
+import com.example.e_learning_system.Repository.QuizRepository;
+import com.example.e_learning_system.excpetions.ClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiled {@link QuizAnswerKey}s by quiz id. A key is compiled from two queries on
+ * first use and kept until the quiz changes; the entry is dropped after the editing
+ * transaction commits. Entries also expire after a TTL, and the least recently used
+ * ones are evicted beyond the size bound.
+ */
+@Component
+@Slf4j
+public class QuizAnswerKeyCache {
+
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository quizQuestionRepository;
+    private final QuizOptionRepository quizOptionRepository;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // Guarded by this; access-ordered, so the eldest entry is the least recently used
+    private final LinkedHashMap<Integer, Entry> keys = new LinkedHashMap<>(16, 0.75f, true);
+    // Guarded by this; bumped on invalidation so keys compiled from older rows are not stored
+    private long generation;
+
+    public QuizAnswerKeyCache(QuizRepository quizRepository,
+                              QuizQuestionRepository quizQuestionRepository,
+                              QuizOptionRepository quizOptionRepository,
+                              @Value("${app.quiz-key-cache.max-entries:1000}") int maxEntries,
+                              @Value("${app.quiz-key-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.quizRepository = quizRepository;
+        this.quizQuestionRepository = quizQuestionRepository;
+        this.quizOptionRepository = quizOptionRepository;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /** The quiz's answer key; throws if the quiz does not exist */
+    public QuizAnswerKey get(Integer quizId) {
+        long startedAt;
+        synchronized (this) {
+            Entry entry = keys.get(quizId);
+            if (entry != null) {
+                if (entry.expiresAt() > System.currentTimeMillis()) {
+                    return entry.key();
+                }
+                keys.remove(quizId);
+            }
+            startedAt = generation;
+        }
+        if (!quizRepository.existsById(quizId)) {
+            throw new ClientException("Quiz not found", "QUIZ_NOT_FOUND", HttpStatus.NOT_FOUND);
+        }
+        QuizAnswerKey key = QuizAnswerKey.compile(quizId,
+                quizQuestionRepository.findMarksByQuizId(quizId),
+                quizOptionRepository.findAnswerRowsByQuizId(quizId));
+        store(quizId, key, startedAt);
+        return key;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        log.debug("Dropping answer key of quiz {}", event.getQuizId());
+        invalidate(event.getQuizId());
+    }
+
+    synchronized void invalidate(Integer quizId) {
+        generation++;
+        keys.remove(quizId);
+    }
+
+    synchronized int size() {
+        return keys.size();
+    }
+
+    private synchronized void store(Integer quizId, QuizAnswerKey key, long startedAt) {
+        if (startedAt != generation) {
+            return;
+        }
+        keys.put(quizId, new Entry(key, System.currentTimeMillis() + ttlMillis));
+        Iterator<Map.Entry<Integer, Entry>> eldest = keys.entrySet().iterator();
+        while (keys.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private record Entry(QuizAnswerKey key, long expiresAt) {
+    }
+}
@@ -4,19 +4,25 @@ import com.example.e_learning_system.Dto.quizzes.*;
 import com.example.e_learning_system.Entities.Course;
 import com.example.e_learning_system.Entities.QuizEntity;
 import com.example.e_learning_system.Entities.QuizQuestionEntity;
+import com.example.e_learning_system.Events.QuizChangedEvent;
 import com.example.e_learning_system.Mapper.Quizzes.QuizMapper;
 import com.example.e_learning_system.Repository.CourseRepository;
 import com.example.e_learning_system.Repository.QuizRepository;
 import com.example.e_learning_system.Service.Interfaces.QuizzesInterfaces.QuizInterface;
 import com.example.e_learning_system.excpetions.ClientException;
 import com.example.e_learning_system.excpetions.InvalidQuizException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +30,9 @@ public class QuizService implements QuizInterface {
     private final QuizRepository quizRepository;
     private final QuizMapper quizMapper;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Set<String> SORT_PROPERTIES = Set.of("id", "title", "totalScore", "createdAt", "updatedAt");
 
     @Override
     @Transactional
@@ -85,6 +94,7 @@ public class QuizService implements QuizInterface {
 
         quizMapper.updateEntityFromDto(updateDTO, quiz);
         QuizEntity updatedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizChangedEvent(updatedQuiz.getId()));
 
         return quizMapper.entityToDto(updatedQuiz);
     }
@@ -94,26 +104,32 @@ public class QuizService implements QuizInterface {
 
 
     @Override
-    @Transactional
-    public List<QuizResponseDTO> getQuizzes(Integer courseId, Integer quizId, String title, Boolean isActive) {
-        List<QuizEntity> quizzes;
+    @Transactional(readOnly = true)
+    public Page<QuizResponseDTO> getQuizzes(Integer courseId, Integer quizId, String title, Boolean isActive,
+                                            Pageable pageable) {
+        for (Sort.Order sortOrder : pageable.getSort()) {
+            if (!SORT_PROPERTIES.contains(sortOrder.getProperty())) {
+                throw ClientException.badRequest("Unsupported sort property: " + sortOrder.getProperty());
+            }
+        }
 
         if (quizId != null) {
             QuizEntity quiz = quizRepository.findById(quizId)
                     .orElseThrow(() -> new ClientException(
                             "Quiz not found", "QUIZ_NOT_FOUND", HttpStatus.NOT_FOUND
                     ));
-            quizzes = List.of(quiz);
-        } else {
-            quizzes = quizRepository.findAll().stream()
-                    .filter(q -> courseId == null || Objects.equals(q.getCourse().getId(), courseId))
-                    .filter(q -> title == null || (q.getTitle() != null && q.getTitle().toLowerCase().contains(title.toLowerCase())))
-                    .filter(q -> isActive == null || q.getIsActive().equals(isActive))
-                    .toList();
+            return new PageImpl<>(List.of(quizMapper.entityToDto(quiz)));
         }
 
-        return quizzes.stream()
-                .map(quizMapper::entityToDto)
-                .toList();
+        String titleFilter = title == null || title.isBlank() ? null : escapeLike(title.trim());
+        return quizRepository.findWithFilters(courseId, titleFilter, isActive, pageable)
+                .map(quizMapper::entityToDto);
+    }
+
+    // The title is matched with LIKE ... ESCAPE '\', so wildcards typed by the user match literally
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
-}
\ No newline at end of file
+}
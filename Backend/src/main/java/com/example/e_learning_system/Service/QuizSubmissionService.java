@@ -9,22 +9,50 @@ import com.example.e_learning_system.Mapper.Quizzes.QuizSubmissionsMapper;
 import com.example.e_learning_system.Repository.*;
 import com.example.e_learning_system.Security.UserUtil;
 import com.example.e_learning_system.Service.Interfaces.QuizzesInterfaces.QuizSubmissions;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class QuizSubmissionService implements QuizSubmissions {
 
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO student_answer (submission_id, question_id, selected_option_id, is_correct, created_at, updated_at) " +
+            "VALUES (:submissionId, :questionId, :selectedOptionId, :isCorrect, :now, :now)";
+
+    // The CREATE rows AuditListener.postPersist would have written for each answer of the submission
+    private static final String INSERT_ANSWER_AUDIT_SQL =
+            "INSERT INTO audit_logs (user_id, entity_type, entity_id, action, changes, created_at, updated_at) " +
+            "SELECT :userId, 'StudentAnswerEntity', sa.id, 'CREATE', " +
+            "       jsonb_build_object('entity', jsonb_build_array(NULL, 'StudentAnswerEntity'), " +
+            "                          'submission', jsonb_build_array(NULL, sa.submission_id), " +
+            "                          'question', jsonb_build_array(NULL, sa.question_id), " +
+            "                          'isCorrect', jsonb_build_array(NULL, sa.is_correct)) " +
+            "       || CASE WHEN sa.selected_option_id IS NULL THEN '{}'::jsonb " +
+            "               ELSE jsonb_build_object('selectedOption', jsonb_build_array(NULL, sa.selected_option_id)) END, " +
+            "       :now, :now " +
+            "FROM student_answer sa WHERE sa.submission_id = :submissionId";
+
     private final QuizSubmissionRepository quizSubmissionRepository;
     private final UserRepository userRepository;
     private final QuizRepository quizRepository;
-    private final QuizQuestionRepository quizQuestionRepository;
-    private final QuizOptionRepository quizOptionRepository;
+    private final QuizAnswerKeyCache quizAnswerKeyCache;
     private final QuizSubmissionsMapper mapper;
+    private final UserCourseProgressService userCourseProgressService;
+    private final LearningStreakService learningStreakService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -32,49 +60,41 @@ public class QuizSubmissionService implements QuizSubmissions {
         UserEntity user = userRepository.findById(UserUtil.getCurrentUserId().intValue())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        QuizEntity quiz = quizRepository.findById(quizSubmitDTO.getQuizId())
-                .orElseThrow(() -> new RuntimeException("Quiz not found"));
-
-        QuizSubmissionEntity submission = mapper.dtoToSubmission(user, quiz);
-        quizSubmissionRepository.save(submission);
-
-        float totalScore = 0f;
-        List<StudentAnswerEntity> answers = new ArrayList<>();
+        // Compiled once per quiz; grading reads no quiz structure from the database
+        QuizAnswerKey answerKey = quizAnswerKeyCache.get(quizSubmitDTO.getQuizId());
+        QuizEntity quiz = quizRepository.getReferenceById(answerKey.getQuizId());
 
-        List<QuizQuestionEntity> allQuestions = quizQuestionRepository.findByQuizId(quiz.getId());
+        // Only the first submission of a quiz counts towards course progress
+        boolean firstSubmission = !quizSubmissionRepository.existsByQuizIdAndUserId(quiz.getId(), user.getId());
 
-        for (QuizQuestionEntity question : allQuestions) {
-            StudentAnswerDTO dto = quizSubmitDTO.getAnswers().stream()
-                    .filter(a -> a.getQuestionId().equals(question.getId()))
-                    .findFirst()
-                    .orElse(null);
-
-            QuizOptionEntity selectedOption = null;
-            boolean isCorrect = false;
-
-            if (dto != null && dto.getSelectedOptionId() != null) {
-                selectedOption = quizOptionRepository.findById(dto.getSelectedOptionId())
-                        .orElseThrow(() -> new RuntimeException("Option not found"));
-
-                isCorrect = Boolean.TRUE.equals(selectedOption.getIsCorrect());
-                if (isCorrect) {
-                    totalScore += question.getQuestionMark();
+        // Selected option per question; a question answered twice keeps its first answer
+        Map<Integer, Integer> selectedByQuestion = new HashMap<>();
+        if (quizSubmitDTO.getAnswers() != null) {
+            for (StudentAnswerDTO dto : quizSubmitDTO.getAnswers()) {
+                if (dto.getSelectedOptionId() != null) {
+                    selectedByQuestion.putIfAbsent(dto.getQuestionId(), dto.getSelectedOptionId());
                 }
             }
-
-            StudentAnswerEntity answerEntity = mapper.dtoToAnswer(question, selectedOption, submission, isCorrect);
-            answers.add(answerEntity);
         }
+        QuizAnswerKey.Grading grading = answerKey.grade(selectedByQuestion);
 
-        submission.setAnswers(answers);
-        submission.setScore(totalScore);
-
+        QuizSubmissionEntity submission = mapper.dtoToSubmission(user, quiz);
+        submission.setScore(grading.score());
         QuizSubmissionEntity savedSubmission = quizSubmissionRepository.save(submission);
+        insertAnswers(user.getId(), savedSubmission.getId(), grading.answers());
+        // The answers bypassed the session; later reads in this transaction must reload them
+        entityManager.detach(savedSubmission);
+
+        if (firstSubmission) {
+            userCourseProgressService.recordQuizCompleted(user.getId(), quiz.getId());
+        }
+        learningStreakService.recordActivity(user.getId());
 
         return mapper.toResponseDTO(savedSubmission);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<QuizSubmissionResponseDTO> getQuizAttempts(Integer quizId, Integer userId) {
         List<QuizSubmissionEntity> submissions;
 
@@ -89,6 +109,7 @@ public class QuizSubmissionService implements QuizSubmissions {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<StudentAnswerResponseDTO> getSubmissionAnswers(Integer submissionId) {
         QuizSubmissionEntity submission = quizSubmissionRepository.findById(submissionId)
                 .orElseThrow(() -> new RuntimeException("Submission not found"));
@@ -99,4 +120,26 @@ public class QuizSubmissionService implements QuizSubmissions {
                 .toList();
     }
 
-}
\ No newline at end of file
+    // One batched statement for all answers instead of an INSERT per answer through the cascade.
+    // The JDBC insert skips the entity listeners, so the answers' audit rows are written here too.
+    private void insertAnswers(int userId, int submissionId, List<QuizAnswerKey.GradedAnswer> graded) {
+        if (graded.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] rows = graded.stream()
+                .map(answer -> new MapSqlParameterSource()
+                        .addValue("submissionId", submissionId)
+                        .addValue("questionId", answer.questionId())
+                        .addValue("selectedOptionId", answer.selectedOptionId(), Types.INTEGER)
+                        .addValue("isCorrect", answer.isCorrect())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_ANSWER_SQL, rows);
+        jdbcTemplate.update(INSERT_ANSWER_AUDIT_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("submissionId", submissionId)
+                .addValue("now", now));
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Config.RevenueGranularity;
+import com.example.e_learning_system.Dto.PaymentDtos.RevenuePointDto;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.SimplePayment;
+import com.example.e_learning_system.Repository.CourseRevenueDailyRepository;
+import com.example.e_learning_system.excpetions.ClientException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the course_revenue_daily rollups: one bucket per course, day and currency.
+ * Write methods join the caller's transaction so a bucket changes exactly when the
+ * payment's status change commits; the payment must already be flushed, since its day
+ * and currency are read from the row by the database. The nightly reconcile rebuilds
+ * recent days from simple_payments to repair any drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RevenueRollupService {
+
+    private static final int MAX_SERIES_DAYS = 3 * 366;
+
+    private final CourseRevenueDailyRepository courseRevenueDailyRepository;
+    private final CourseRankService courseRankService;
+
+    @Value("${app.revenue.reconcile-days:7}")
+    private int reconcileDays;
+
+    /** The payment has just become COMPLETED */
+    public void recordCompleted(SimplePayment payment) {
+        apply(payment, 1);
+    }
+
+    /** A COMPLETED payment changed to another status (e.g. refunded) */
+    public void recordReversed(SimplePayment payment) {
+        apply(payment, -1);
+    }
+
+    /** All-time revenue and revenue since {@code since} of each given course, keyed by course id */
+    @Transactional(readOnly = true)
+    public Map<Integer, CourseRevenue> getCourseRevenue(Collection<Integer> courseIds, LocalDate since) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, CourseRevenue> byCourse = new HashMap<>();
+        for (Object[] row : courseRevenueDailyRepository.sumByCourseIds(courseIds, since)) {
+            byCourse.put(((Number) row[0]).intValue(), new CourseRevenue(toBigDecimal(row[1]), toBigDecimal(row[2])));
+        }
+        return byCourse;
+    }
+
+    /**
+     * Revenue per period and currency between {@code from} and {@code to} (inclusive days),
+     * of the given courses or, when {@code courseIds} is null, of all courses. Periods
+     * without payments are absent.
+     */
+    @Transactional(readOnly = true)
+    public List<RevenuePointDto> getSeries(Collection<Integer> courseIds, RevenueGranularity granularity,
+                                           LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw ClientException.badRequest("A time range with from <= to is required");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_SERIES_DAYS) {
+            throw ClientException.badRequest("Time range cannot exceed " + MAX_SERIES_DAYS + " days");
+        }
+        if (courseIds != null && courseIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String unit = granularity.getUnit();
+        List<Object[]> rows = courseIds == null
+                ? courseRevenueDailyRepository.findSeries(unit, from, to)
+                : courseRevenueDailyRepository.findSeriesByCourseIds(courseIds, unit, from, to);
+        return rows.stream()
+                .map(row -> RevenuePointDto.builder()
+                        .periodStart(toLocalDate(row[0]))
+                        .currency((String) row[1])
+                        .payments(((Number) row[2]).longValue())
+                        .grossAmount(toBigDecimal(row[3]))
+                        .netAmount(toBigDecimal(row[4]))
+                        .build())
+                .toList();
+    }
+
+    /** Rebuild the buckets of the last few days from simple_payments */
+    @Scheduled(cron = "${app.revenue.reconcile-cron:0 15 4 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        // One day of slack: buckets are days in the database's time zone, not the JVM's
+        LocalDate from = LocalDate.now().minusDays(reconcileDays + 1L);
+        int rows = courseRevenueDailyRepository.rebuild(from, null);
+        log.info("Rebuilt {} course_revenue_daily buckets since {} in {} ms", rows, from, System.currentTimeMillis() - start);
+    }
+
+    private void apply(SimplePayment payment, int sign) {
+        Course course = payment.getCourse();
+        if (course == null) {
+            return; // Package payments are not attributed to courses
+        }
+        courseRevenueDailyRepository.applyPayment(payment.getId(), sign);
+        courseRankService.refreshCourse(course.getId());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) return BigDecimal.ZERO;
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    public record CourseRevenue(BigDecimal total, BigDecimal since) {
+    }
+}
@@ -47,6 +47,9 @@ public class SimplePaymentServiceImpl implements SimplePaymentService {
     @Autowired
     private SimplePaymentMapper simplePaymentMapper;
 
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
     @Override
     @Transactional
     public SimplePaymentResponseDTO createPayment(SimplePaymentRequestDTO requestDTO) {
@@ -120,7 +123,9 @@ public class SimplePaymentServiceImpl implements SimplePaymentService {
             promotionCodeRepository.save(promotionCode);
         }
 
-        SimplePayment updatedPayment = simplePaymentRepository.save(payment);
+        // Flushed first: the revenue rollup reads the payment's day and currency from its row
+        SimplePayment updatedPayment = simplePaymentRepository.saveAndFlush(payment);
+        revenueRollupService.recordCompleted(updatedPayment);
         return simplePaymentMapper.entityToResponseDto(updatedPayment);
     }
 
@@ -169,8 +174,16 @@ public class SimplePaymentServiceImpl implements SimplePaymentService {
         SimplePayment payment = simplePaymentRepository.findById(paymentId)
             .orElseThrow(() -> ResourceNotFound.simplePaymentNotFound(paymentId));
 
+        SimplePaymentStatus previous = payment.getStatus();
         payment.setStatus(status);
-        SimplePayment updatedPayment = simplePaymentRepository.save(payment);
+        SimplePayment updatedPayment = simplePaymentRepository.saveAndFlush(payment);
+
+        // Keep the revenue rollups in line with what counts as completed
+        if (previous != SimplePaymentStatus.COMPLETED && status == SimplePaymentStatus.COMPLETED) {
+            revenueRollupService.recordCompleted(updatedPayment);
+        } else if (previous == SimplePaymentStatus.COMPLETED && status != SimplePaymentStatus.COMPLETED) {
+            revenueRollupService.recordReversed(updatedPayment);
+        }
         return simplePaymentMapper.entityToResponseDto(updatedPayment);
     }
 
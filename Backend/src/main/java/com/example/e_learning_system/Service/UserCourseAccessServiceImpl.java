@@ -21,7 +21,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,6 +52,12 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
     @Autowired
     private UserCourseAccessMapper userCourseAccessMapper;
 
+    @Autowired
+    private CourseStatsService courseStatsService;
+
+    @Autowired
+    private UserCourseProgressService userCourseProgressService;
+
     @Override
     @Transactional
     public UserCourseAccessResponseDTO grantCourseAccess(Integer userId, Integer courseId, AccessType accessType, 
@@ -79,6 +89,8 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
             .build();
 
         UserCourseAccess savedAccess = userCourseAccessRepository.save(access);
+        courseStatsService.recordEnrollmentChange(courseId, 1);
+        userCourseProgressService.recordEnrollment(userId, courseId);
         return userCourseAccessMapper.entityToResponseDto(savedAccess);
     }
 
@@ -98,15 +110,16 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
                 .orElseThrow(() -> ResourceNotFound.simplePaymentNotFound(paymentId.toString()));
         }
 
-        // Get all courses in the package and grant access to each
+        // Get all courses in the package and grant access to each the user doesn't already have
         List<Course> packageCourses = packageCourseRepository.findCoursesByPackageId(packageId);
-        
-        UserCourseAccessResponseDTO lastCreatedAccess = null;
-        
+        Set<Integer> alreadyGranted = packageCourses.isEmpty() ? Collections.emptySet()
+            : new HashSet<>(userCourseAccessRepository.findActiveCourseIdsByUser(userId,
+                packageCourses.stream().map(Course::getId).toList()));
+
+        List<UserCourseAccess> accesses = new ArrayList<>();
         for (Course course : packageCourses) {
-            // Only grant access if user doesn't already have it
-            if (!userCourseAccessRepository.existsByUserIdAndCourseIdAndIsActiveTrue(userId, course.getId())) {
-                UserCourseAccess access = UserCourseAccess.builder()
+            if (alreadyGranted.add(course.getId())) {
+                accesses.add(UserCourseAccess.builder()
                     .user(user)
                     .course(course)
                     .packageEntity(packageEntity)
@@ -114,12 +127,18 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
                     .accessUntil(accessUntil)
                     .isActive(true)
                     .payment(payment)
-                    .build();
-                
-                UserCourseAccess savedAccess = userCourseAccessRepository.save(access);
-                lastCreatedAccess = userCourseAccessMapper.entityToResponseDto(savedAccess);
+                    .build());
             }
         }
+
+        // Persisted together so the inserts go out as one JDBC batch at flush
+        List<UserCourseAccess> savedAccesses = userCourseAccessRepository.saveAll(accesses);
+        UserCourseAccessResponseDTO lastCreatedAccess = null;
+        for (UserCourseAccess savedAccess : savedAccesses) {
+            courseStatsService.recordEnrollmentChange(savedAccess.getCourse().getId(), 1);
+            userCourseProgressService.recordEnrollment(userId, savedAccess.getCourse().getId());
+            lastCreatedAccess = userCourseAccessMapper.entityToResponseDto(savedAccess);
+        }
         
         return lastCreatedAccess;
     }
@@ -172,6 +191,8 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
 
         access.setIsActive(false);
         userCourseAccessRepository.save(access);
+        courseStatsService.recordEnrollmentChange(courseId, -1);
+        userCourseProgressService.recordAccessEnded(userId, courseId);
     }
 
     @Override
@@ -180,6 +201,7 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
         List<UserCourseAccess> accesses = userCourseAccessRepository.findActiveAccessByUserAndPackage(userId, packageId);
         accesses.forEach(access -> access.setIsActive(false));
         userCourseAccessRepository.saveAll(accesses);
+        recordRevokedAccesses(accesses);
     }
 
     @Override
@@ -200,6 +222,19 @@ public class UserCourseAccessServiceImpl implements UserCourseAccessService {
         List<UserCourseAccess> expiredAccesses = userCourseAccessRepository.findExpiredAccesses(LocalDateTime.now());
         expiredAccesses.forEach(access -> access.setIsActive(false));
         userCourseAccessRepository.saveAll(expiredAccesses);
+        recordRevokedAccesses(expiredAccesses);
+    }
+
+    private void recordRevokedAccesses(List<UserCourseAccess> accesses) {
+        accesses.stream()
+            .filter(access -> access.getCourse() != null)
+            .collect(Collectors.groupingBy(access -> access.getCourse().getId(), Collectors.counting()))
+            .forEach((courseId, count) -> courseStatsService.recordEnrollmentChange(courseId, -count.intValue()));
+        accesses.stream()
+            .filter(access -> access.getCourse() != null && access.getUser() != null)
+            .map(access -> List.of(access.getUser().getId(), access.getCourse().getId()))
+            .distinct()
+            .forEach(pair -> userCourseProgressService.recordAccessEnded(pair.get(0), pair.get(1)));
     }
 
     @Override
@@ -0,0 +1,143 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.MyLearningDtos.CourseProgressDto;
+import com.example.e_learning_system.Entities.UserCourseProgress;
+import com.example.e_learning_system.Repository.UserCourseProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the user_course_progress read model. Write methods join the caller's
+ * transaction so the counters commit or roll back together with the watch, quiz
+ * submission, content change or revocation that triggered them. Rows exist for
+ * active enrollments only; the nightly reconcile repairs any drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class UserCourseProgressService {
+
+    private final UserCourseProgressRepository userCourseProgressRepository;
+    private final LearningProgressService learningProgressService;
+
+    /**
+     * Progress of one user in each of the given courses, keyed by course id. Courses
+     * without a row yet are computed with the grouped queries of LearningProgressService.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, CourseProgressDto> getProgress(Integer userId, Collection<Integer> courseIds) {
+        if (userId == null || courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, CourseProgressDto> byCourse = new HashMap<>();
+        for (UserCourseProgress row : userCourseProgressRepository.findByUserIdAndCourseIdIn(userId, courseIds)) {
+            byCourse.put(row.getCourseId(), toDto(row));
+        }
+        if (byCourse.size() < courseIds.size()) {
+            Set<Integer> missing = new HashSet<>(courseIds);
+            missing.removeAll(byCourse.keySet());
+            byCourse.putAll(learningProgressService.getProgress(userId, missing));
+        }
+        return byCourse;
+    }
+
+    /** Enrollment, average progress and completion numbers per course, keyed by course id */
+    @Transactional(readOnly = true)
+    public Map<Integer, CourseCompletion> getCompletionByCourse(Collection<Integer> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, CourseCompletion> byCourse = new HashMap<>();
+        for (Object[] row : userCourseProgressRepository.summarizeByCourseIds(courseIds)) {
+            byCourse.put(((Number) row[0]).intValue(), new CourseCompletion(
+                    ((Number) row[1]).intValue(),
+                    row[2] != null ? ((Number) row[2]).doubleValue() : 0.0,
+                    ((Number) row[3]).intValue()));
+        }
+        return byCourse;
+    }
+
+    /** {@code delta} is +1 when the user newly watched the video, -1 when it was unmarked */
+    public void recordLessonWatched(Integer userId, Integer videoId, int delta) {
+        if (userId == null || videoId == null || delta == 0) {
+            return;
+        }
+        userCourseProgressRepository.applyWatchedDelta(userId, videoId, delta);
+    }
+
+    /** Call for the user's first submission of the quiz only; retakes do not add progress */
+    public void recordQuizCompleted(Integer userId, Integer quizId) {
+        if (userId == null || quizId == null) {
+            return;
+        }
+        userCourseProgressRepository.applyQuizCompleted(userId, quizId);
+    }
+
+    /** A new enrollment starts with a fully computed row */
+    public void recordEnrollment(Integer userId, Integer courseId) {
+        if (userId == null || courseId == null) {
+            return;
+        }
+        userCourseProgressRepository.refreshUserCourse(userId, courseId);
+    }
+
+    /** Access was revoked or expired: the row goes once no other active access covers the course */
+    public void recordAccessEnded(Integer userId, Integer courseId) {
+        if (userId == null || courseId == null) {
+            return;
+        }
+        userCourseProgressRepository.deleteIfNoActiveAccess(userId, courseId);
+    }
+
+    /** Modules of the course changed: recompute totals (and what of them each learner has done) */
+    public void refreshCourse(Integer courseId) {
+        if (courseId == null) {
+            return;
+        }
+        userCourseProgressRepository.refreshCourse(courseId);
+    }
+
+    /** Lessons of the module changed: refresh every course the module belongs to */
+    public void refreshCoursesContainingModule(Integer moduleId) {
+        if (moduleId == null) {
+            return;
+        }
+        userCourseProgressRepository.refreshCoursesContainingModule(moduleId);
+    }
+
+    /** Recompute all rows from scratch and drop those of ended enrollments to repair any drift */
+    @Scheduled(cron = "${app.user-progress.reconcile-cron:0 45 3 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int rows = userCourseProgressRepository.refreshAll();
+        log.info("Reconciled user_course_progress for {} enrollments in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    private static CourseProgressDto toDto(UserCourseProgress row) {
+        return CourseProgressDto.builder()
+                .userId(row.getUserId())
+                .courseId(row.getCourseId())
+                .totalModules(row.getTotalModules())
+                .totalLessons(row.getTotalLessons())
+                .watchedLessons(row.getWatchedLessons())
+                .totalQuizzes(row.getTotalQuizzes())
+                .completedQuizzes(row.getCompletedQuizzes())
+                .progressPercentage(row.getProgressPct())
+                .lastActivityAt(row.getLastActivityAt())
+                .build();
+    }
+
+    public record CourseCompletion(int learners, double averageProgress, int completions) {
+    }
+}
@@ -8,6 +8,7 @@ import com.example.e_learning_system.Dto.PagedResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -17,9 +18,11 @@ import java.util.stream.Collectors;
 public class UserFeedbackServiceImpl implements UserFeedbackService {
 
     private final UserFeedbackJpaRepository feedbackRepo;
+    private final CourseStatsService courseStatsService;
 
-    public UserFeedbackServiceImpl(UserFeedbackJpaRepository feedbackRepo) {
+    public UserFeedbackServiceImpl(UserFeedbackJpaRepository feedbackRepo, CourseStatsService courseStatsService) {
         this.feedbackRepo = feedbackRepo;
+        this.courseStatsService = courseStatsService;
     }
 
     @Override
@@ -31,6 +34,7 @@ public class UserFeedbackServiceImpl implements UserFeedbackService {
     }
 
     @Override
+    @Transactional
     public FeedbackDto createFeedback(Integer courseId, CreateFeedbackDto payload) {
         // basic validation
         if (payload.getRating() != null && (payload.getRating() < 1 || payload.getRating() > 5)) {
@@ -45,11 +49,13 @@ public class UserFeedbackServiceImpl implements UserFeedbackService {
         Optional<UserFeedback> existing = feedbackRepo.findByCourseIdAndUserIdAndIsActiveTrue(courseId, userId);
         if (existing.isPresent()) {
             UserFeedback f = existing.get();
+            Integer previousRating = f.getRating();
             f.setFeedbackText(payload.getFeedbackText());
             f.setRating(payload.getRating());
             f.setIsAnonymous(payload.getIsAnonymous() == null ? false : payload.getIsAnonymous());
             f.setUpdatedAt(LocalDateTime.now());
             UserFeedback saved = feedbackRepo.save(f);
+            courseStatsService.recordFeedback(courseId, previousRating, saved.getRating(), false);
             return toDto(saved);
         }
 
@@ -65,6 +71,7 @@ public class UserFeedbackServiceImpl implements UserFeedbackService {
                 .build();
 
         UserFeedback saved = feedbackRepo.save(f);
+        courseStatsService.recordFeedback(courseId, null, saved.getRating(), true);
         return toDto(saved);
     }
 
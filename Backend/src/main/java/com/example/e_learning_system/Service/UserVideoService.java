@@ -1,8 +1,6 @@
 package com.example.e_learning_system.Service;
 
 import com.example.e_learning_system.Dto.VideoDtos.VideoDto;
-import com.example.e_learning_system.Entities.UserEntity;
-import com.example.e_learning_system.Entities.VideoEntity;
 import com.example.e_learning_system.Mapper.VideoMapper;
 import com.example.e_learning_system.Repository.UserRepository;
 import com.example.e_learning_system.Repository.VideoRepository;
@@ -11,50 +9,65 @@ import com.example.e_learning_system.Service.Interfaces.UserVideo;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Watched videos are read and written directly on user_watched_videos; the user's
+ * watchedVideos collection is never loaded here. Marking and unmarking are idempotent.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserVideoService implements UserVideo {
 
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
+    private final UserCourseProgressService userCourseProgressService;
+    private final LearningStreakService learningStreakService;
 
     @Override
     @Transactional
     public void markedWatched(Integer videoId) {
         Integer userId = UserUtil.getCurrentUserId().intValue();
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        VideoEntity video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found"));
+        if (!videoRepository.existsById(videoId)) {
+            throw new RuntimeException("Video not found");
+        }
 
-        if (!user.getWatchedVideos().contains(video)) {
-            user.getWatchedVideos().add(video);
+        if (userRepository.insertWatchedVideoIfAbsent(userId, videoId) > 0) {
+            userCourseProgressService.recordLessonWatched(userId, videoId, 1);
         }
+        learningStreakService.recordActivity(userId);
     }
 
     @Override
     @Transactional
     public void unMarkedWatched(Integer videoId) {
         Integer userId = UserUtil.getCurrentUserId().intValue();
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        VideoEntity video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found"));
-        if(user.getWatchedVideos().contains(video)) {
-            user.getWatchedVideos().remove(video);
+        if (!videoRepository.existsById(videoId)) {
+            throw new RuntimeException("Video not found");
+        }
+        if (userRepository.deleteWatchedVideo(userId, videoId) > 0) {
+            userCourseProgressService.recordLessonWatched(userId, videoId, -1);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<VideoDto> getWatchedVideosByUser(Integer userId) {
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
 
-        return user.getWatchedVideos().stream()
+        return videoRepository.findWatchedByUserId(userId).stream()
                 .map(VideoMapper::fromVideoEntityToVideoDto)
                 .collect(Collectors.toSet());
     }
+
+    /** Ids of the videos of the course the user has watched, ascending */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> getWatchedVideoIds(Integer userId, Integer courseId) {
+        return userRepository.findWatchedVideoIdsInCourse(userId, courseId);
+    }
 }
@@ -68,6 +68,7 @@ public class VideoServiceImpl implements VideoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public VideoDto getVideoById(Integer id) {
         VideoEntity videoEntity = videoEntityRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Video not found"));
@@ -75,12 +76,14 @@ public class VideoServiceImpl implements VideoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<VideoDto> getVideos(Pageable pageable) {
         Page<VideoEntity> videoEntities = videoEntityRepository.findAll(pageable);
         return videoEntities.map(VideoMapper::fromVideoEntityToVideoDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<VideoDto> getVideosByUser(Integer userId) {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -0,0 +1,110 @@
+package com.example.e_learning_system.Service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory accumulation of playback heartbeats per (user, video) until the next flush.
+ *
+ * Keys are spread over a fixed number of independently locked stripes, so concurrent
+ * heartbeats only contend when they hash to the same stripe. A flush swaps each stripe's
+ * map for an empty one and hands back everything recorded since the previous flush.
+ */
+@Component
+public class WatchTimeBuffer {
+
+    /** Width of one coverage bit, in seconds of video */
+    public static final int BUCKET_SECONDS = 10;
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public WatchTimeBuffer() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /** Record that seconds [fromSecond, toSecond) of the video were played */
+    public void record(int userId, int videoId, int fromSecond, int toSecond) {
+        if (toSecond <= fromSecond) {
+            return;
+        }
+        Key key = new Key(userId, videoId);
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Pending pending = stripe.entries.computeIfAbsent(key, k -> new Pending());
+            pending.watchedSeconds += toSecond - fromSecond;
+            pending.buckets.set(fromSecond / BUCKET_SECONDS, (toSecond - 1) / BUCKET_SECONDS + 1);
+        }
+    }
+
+    /** Everything recorded since the previous drain; the buffer is left empty */
+    public Map<Key, Pending> drain() {
+        Map<Key, Pending> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Key, Pending> entries;
+            synchronized (stripe) {
+                if (stripe.entries.isEmpty()) {
+                    continue;
+                }
+                entries = stripe.entries;
+                stripe.entries = new HashMap<>();
+            }
+            drained.putAll(entries);
+        }
+        return drained;
+    }
+
+    /** Put back a drained batch that could not be written, merging with newer heartbeats */
+    public void restore(Map<Key, Pending> batch) {
+        batch.forEach((key, restored) -> {
+            Stripe stripe = stripeOf(key);
+            synchronized (stripe) {
+                Pending pending = stripe.entries.computeIfAbsent(key, k -> new Pending());
+                pending.watchedSeconds += restored.watchedSeconds;
+                pending.buckets.or(restored.buckets);
+            }
+        });
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(Key key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private static final class Stripe {
+        // Guarded by the stripe
+        private Map<Key, Pending> entries = new HashMap<>();
+    }
+
+    public record Key(int userId, int videoId) {
+    }
+
+    /** Playback of one (user, video) since the last flush; only touched under its stripe's lock until drained */
+    public static final class Pending {
+        private long watchedSeconds;
+        private final BitSet buckets = new BitSet();
+
+        public long getWatchedSeconds() {
+            return watchedSeconds;
+        }
+
+        public BitSet getBuckets() {
+            return buckets;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.VideoDtos.WatchHeartbeatDto;
+import com.example.e_learning_system.Repository.UserRepository;
+import com.example.e_learning_system.Repository.VideoRepository;
+import com.example.e_learning_system.Repository.VideoWatchTimeRepository;
+import com.example.e_learning_system.excpetions.SecurityException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ingests playback heartbeats. A heartbeat only updates {@link WatchTimeBuffer}; the
+ * buffer is flushed every few seconds (and at shutdown) with one batched upsert into
+ * user_video_watch_time. A video is marked watched once the played part of it
+ * reaches the coverage threshold.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WatchTimeService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_video_watch_time (user_id, video_id, watched_seconds, coverage, covered_buckets, completed_at, updated_at) " +
+            "VALUES (:userId, :videoId, :watchedSeconds, :coverage, :coveredBuckets, :completedAt, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, video_id) DO UPDATE SET " +
+            "watched_seconds = user_video_watch_time.watched_seconds + EXCLUDED.watched_seconds, " +
+            "coverage = EXCLUDED.coverage, covered_buckets = EXCLUDED.covered_buckets, " +
+            "completed_at = COALESCE(user_video_watch_time.completed_at, EXCLUDED.completed_at), " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String EXISTING_SQL =
+            "SELECT user_id, video_id, coverage, completed_at FROM user_video_watch_time " +
+            "WHERE user_id IN (:userIds) AND video_id IN (:videoIds)";
+
+    private final WatchTimeBuffer buffer;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoRepository videoRepository;
+    private final UserRepository userRepository;
+    private final VideoWatchTimeRepository videoWatchTimeRepository;
+    private final UserCourseProgressService userCourseProgressService;
+    private final LearningStreakService learningStreakService;
+
+    // Upper bound on the playback one heartbeat may report
+    @Value("${app.watch-time.max-heartbeat-seconds:60}")
+    private int maxHeartbeatSeconds;
+
+    @Value("${app.watch-time.completion-threshold:0.9}")
+    private double completionThreshold;
+
+    /**
+     * Buffer one heartbeat of a video the user can watch through an active enrollment. The
+     * reported range is clipped to the video's duration (or the DTO's hard limit when the
+     * duration is unknown), so the coverage bitmap stays proportional to the video.
+     */
+    @Transactional(readOnly = true)
+    public void recordHeartbeat(Integer userId, WatchHeartbeatDto heartbeat) {
+        List<Object[]> video = videoRepository.findDurationIfAccessible(heartbeat.getVideoId(), userId, LocalDateTime.now());
+        if (video.isEmpty()) {
+            throw SecurityException.accessDenied("Video " + heartbeat.getVideoId());
+        }
+        Object duration = video.get(0)[1];
+        int end = duration != null && ((Number) duration).intValue() > 0
+                ? ((Number) duration).intValue()
+                : WatchHeartbeatDto.MAX_POSITION_SECONDS;
+
+        int position = Math.min(heartbeat.getPositionSeconds(), end);
+        int played = Math.min(heartbeat.getPlayedSeconds(), maxHeartbeatSeconds);
+        buffer.record(userId, heartbeat.getVideoId(), Math.max(0, position - played), position);
+    }
+
+    @Scheduled(fixedDelayString = "${app.watch-time.flush-interval-ms:5000}")
+    public void flush() {
+        writeBuffered();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing {} buffered watch time entries before shutdown", buffer.size());
+        writeBuffered();
+    }
+
+    @Transactional(readOnly = true)
+    public long getWatchedSeconds(Integer userId) {
+        return videoWatchTimeRepository.sumWatchedSecondsByUserId(userId);
+    }
+
+    /** Watched seconds of the user in each of the given courses, keyed by course id */
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> getWatchedSecondsByCourse(Integer userId, Collection<Integer> courseIds) {
+        if (userId == null || courseIds == null || courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, Long> byCourse = new HashMap<>();
+        for (Object[] row : videoWatchTimeRepository.sumWatchedSecondsByCourse(userId, courseIds)) {
+            byCourse.put(((Number) row[0]).intValue(), row[1] != null ? ((Number) row[1]).longValue() : 0L);
+        }
+        return byCourse;
+    }
+
+    // Serialized so the scheduled flush and the shutdown flush never merge coverage concurrently
+    private synchronized void writeBuffered() {
+        Map<WatchTimeBuffer.Key, WatchTimeBuffer.Pending> batch = buffer.drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            int completed = transactionTemplate.execute(status -> write(batch));
+            log.debug("Flushed watch time for {} (user, video) pairs in {} ms, {} newly watched",
+                    batch.size(), System.currentTimeMillis() - start, completed);
+        } catch (RuntimeException e) {
+            log.warn("Watch time flush of {} entries failed, keeping them for the next flush", batch.size(), e);
+            buffer.restore(batch);
+        }
+    }
+
+    private int write(Map<WatchTimeBuffer.Key, WatchTimeBuffer.Pending> batch) {
+        Set<Integer> userIds = new HashSet<>();
+        Set<Integer> videoIds = new HashSet<>();
+        batch.keySet().forEach(key -> {
+            userIds.add(key.userId());
+            videoIds.add(key.videoId());
+        });
+
+        Set<Integer> knownVideos = new HashSet<>();
+        Map<Integer, Integer> durations = new HashMap<>();
+        for (Object[] row : videoRepository.findDurationsByIdIn(videoIds)) {
+            knownVideos.add(((Number) row[0]).intValue());
+            if (row[1] != null) {
+                durations.put(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            }
+        }
+
+        // Coverage is merged here rather than in SQL: bytea has no bitwise OR
+        Map<WatchTimeBuffer.Key, BitSet> existingCoverage = new HashMap<>();
+        Set<WatchTimeBuffer.Key> alreadyCompleted = new HashSet<>();
+        jdbcTemplate.query(EXISTING_SQL,
+                new MapSqlParameterSource("userIds", userIds).addValue("videoIds", videoIds),
+                rs -> {
+                    WatchTimeBuffer.Key key = new WatchTimeBuffer.Key(rs.getInt("user_id"), rs.getInt("video_id"));
+                    if (!batch.containsKey(key)) {
+                        return;
+                    }
+                    byte[] coverage = rs.getBytes("coverage");
+                    existingCoverage.put(key, coverage != null ? BitSet.valueOf(coverage) : new BitSet());
+                    if (rs.getTimestamp("completed_at") != null) {
+                        alreadyCompleted.add(key);
+                    }
+                });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<SqlParameterSource> rows = new ArrayList<>(batch.size());
+        List<WatchTimeBuffer.Key> newlyCompleted = new ArrayList<>();
+        batch.forEach((key, pending) -> {
+            if (!knownVideos.contains(key.videoId())) {
+                return; // Unknown video, nothing to attach the playback to
+            }
+            BitSet coverage = existingCoverage.getOrDefault(key, new BitSet());
+            coverage.or(pending.getBuckets());
+
+            Integer duration = durations.get(key.videoId());
+            boolean completes = false;
+            if (duration != null && duration > 0) {
+                int totalBuckets = (duration + WatchTimeBuffer.BUCKET_SECONDS - 1) / WatchTimeBuffer.BUCKET_SECONDS;
+                coverage.clear(totalBuckets, Math.max(totalBuckets, coverage.length()));
+                completes = !alreadyCompleted.contains(key)
+                        && coverage.cardinality() >= Math.ceil(totalBuckets * completionThreshold);
+            }
+            if (completes) {
+                newlyCompleted.add(key);
+            }
+
+            rows.add(new MapSqlParameterSource()
+                    .addValue("userId", key.userId())
+                    .addValue("videoId", key.videoId())
+                    .addValue("watchedSeconds", pending.getWatchedSeconds())
+                    .addValue("coverage", coverage.toByteArray())
+                    .addValue("coveredBuckets", coverage.cardinality())
+                    .addValue("completedAt", completes ? now : null, Types.TIMESTAMP));
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.toArray(new SqlParameterSource[0]));
+        }
+        userIds.forEach(learningStreakService::recordActivity);
+
+        int marked = 0;
+        for (WatchTimeBuffer.Key key : newlyCompleted) {
+            if (userRepository.insertWatchedVideoIfAbsent(key.userId(), key.videoId()) > 0) {
+                userCourseProgressService.recordLessonWatched(key.userId(), key.videoId(), 1);
+                marked++;
+            }
+        }
+        return marked;
+    }
+}
@@ -0,0 +1,34 @@
+-- Precomputed per-course catalog numbers, maintained by the enrollment and feedback write paths
+
+CREATE TABLE course_stats (
+    course_id INTEGER PRIMARY KEY,
+    enrolled_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    review_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_course_stats_course
+        FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE
+);
+
+-- Seed from existing data
+INSERT INTO course_stats (course_id, enrolled_count, rating_sum, rating_count, review_count)
+SELECT c.id,
+       COALESCE(e.enrolled_count, 0),
+       COALESCE(f.rating_sum, 0),
+       COALESCE(f.rating_count, 0),
+       COALESCE(f.review_count, 0)
+FROM courses c
+LEFT JOIN (
+    SELECT course_id, COUNT(*) AS enrolled_count
+    FROM user_course_access
+    WHERE is_active = true
+    GROUP BY course_id
+) e ON e.course_id = c.id
+LEFT JOIN (
+    SELECT course_id, SUM(rating) AS rating_sum, COUNT(rating) AS rating_count, COUNT(*) AS review_count
+    FROM user_feedback
+    WHERE is_active = true
+    GROUP BY course_id
+) f ON f.course_id = c.id;
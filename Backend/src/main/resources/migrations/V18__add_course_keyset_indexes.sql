@@ -0,0 +1,4 @@
+-- Composite indexes backing keyset pagination on /api/courses: WHERE (sort_key, id) > (?, ?)
+
+CREATE INDEX idx_courses_name_id ON courses(name, id);
+CREATE INDEX idx_courses_created_at_id ON courses(created_at, id);
@@ -0,0 +1,90 @@
+-- Full-text search over courses: weighted tsvector (name, tags, category, instructor, description)
+-- plus a trigram-indexed search_text for partial words. Both are kept current by triggers
+-- because tags and instructor names live in other tables.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE courses
+    ADD COLUMN search_vector tsvector,
+    ADD COLUMN search_text TEXT;
+
+CREATE OR REPLACE FUNCTION course_tag_names(p_course_id INTEGER)
+RETURNS TEXT AS $$
+    SELECT COALESCE(string_agg(t.name, ' '), '')
+    FROM course_tags ct
+    JOIN tags t ON t.id = ct.tag_id
+    WHERE ct.course_id = p_course_id;
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION courses_search_refresh()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_tags TEXT := course_tag_names(NEW.id);
+    v_category TEXT := COALESCE(replace(NEW.category, '_', ' '), '');
+    v_instructor TEXT := COALESCE((SELECT u.name FROM users u WHERE u.id = NEW.created_by), '');
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', COALESCE(NEW.name, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(NEW.name, '')), 'A') ||
+        setweight(to_tsvector('simple', v_tags), 'B') ||
+        setweight(to_tsvector('simple', v_category), 'B') ||
+        setweight(to_tsvector('simple', v_instructor), 'C') ||
+        setweight(to_tsvector('english', COALESCE(NEW.description, '')), 'D');
+    NEW.search_text := lower(concat_ws(' ', NEW.name, v_tags, v_category, v_instructor, NEW.description));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_courses_search_refresh
+    BEFORE INSERT OR UPDATE ON courses
+    FOR EACH ROW EXECUTE FUNCTION courses_search_refresh();
+
+-- Touching the course row re-runs trg_courses_search_refresh
+CREATE OR REPLACE FUNCTION course_tags_search_refresh()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        UPDATE courses SET search_vector = NULL WHERE id = OLD.course_id;
+        RETURN OLD;
+    END IF;
+    UPDATE courses SET search_vector = NULL WHERE id = NEW.course_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_course_tags_search_refresh
+    AFTER INSERT OR DELETE ON course_tags
+    FOR EACH ROW EXECUTE FUNCTION course_tags_search_refresh();
+
+CREATE OR REPLACE FUNCTION tags_search_refresh()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE courses SET search_vector = NULL
+    WHERE id IN (SELECT course_id FROM course_tags WHERE tag_id = NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tags_search_refresh
+    AFTER UPDATE OF name ON tags
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION tags_search_refresh();
+
+CREATE OR REPLACE FUNCTION users_course_search_refresh()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE courses SET search_vector = NULL WHERE created_by = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_course_search_refresh
+    AFTER UPDATE OF name ON users
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION users_course_search_refresh();
+
+-- Backfill existing rows through the trigger
+UPDATE courses SET search_vector = NULL;
+
+CREATE INDEX idx_courses_search_vector ON courses USING gin(search_vector);
+CREATE INDEX idx_courses_search_text_trgm ON courses USING gin(search_text gin_trgm_ops);
@@ -0,0 +1,122 @@
+-- content_version changes whenever anything in a course's content tree changes
+-- (course_modules, modules, module_videos, videos, video_attachments), so the
+-- assembled tree can be cached per (course_id, content_version).
+
+ALTER TABLE courses
+    ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_course_content_version_for_modules(p_module_ids INTEGER[])
+RETURNS VOID AS $$
+    UPDATE courses SET content_version = content_version + 1
+    WHERE id IN (SELECT course_id FROM course_modules WHERE module_id = ANY(p_module_ids));
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION bump_course_content_version_for_videos(p_video_ids INTEGER[])
+RETURNS VOID AS $$
+    UPDATE courses SET content_version = content_version + 1
+    WHERE id IN (SELECT cm.course_id
+                 FROM module_videos mv
+                 JOIN course_modules cm ON cm.module_id = mv.module_id
+                 WHERE mv.video_id = ANY(p_video_ids));
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION course_modules_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE courses SET content_version = content_version + 1 WHERE id = OLD.course_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND (TG_OP = 'INSERT' OR NEW.course_id IS DISTINCT FROM OLD.course_id) THEN
+        UPDATE courses SET content_version = content_version + 1 WHERE id = NEW.course_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_course_modules_content_version
+    AFTER INSERT OR UPDATE OR DELETE ON course_modules
+    FOR EACH ROW EXECUTE FUNCTION course_modules_content_version();
+
+CREATE OR REPLACE FUNCTION modules_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM bump_course_content_version_for_modules(ARRAY[NEW.id]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_modules_content_version
+    AFTER UPDATE ON modules
+    FOR EACH ROW EXECUTE FUNCTION modules_content_version();
+
+CREATE OR REPLACE FUNCTION module_videos_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM bump_course_content_version_for_modules(ARRAY[OLD.module_id]);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_course_content_version_for_modules(ARRAY[OLD.module_id, NEW.module_id]);
+    ELSE
+        PERFORM bump_course_content_version_for_modules(ARRAY[NEW.module_id]);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_module_videos_content_version
+    AFTER INSERT OR UPDATE OR DELETE ON module_videos
+    FOR EACH ROW EXECUTE FUNCTION module_videos_content_version();
+
+CREATE OR REPLACE FUNCTION videos_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM bump_course_content_version_for_videos(ARRAY[NEW.id]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_videos_content_version
+    AFTER UPDATE ON videos
+    FOR EACH ROW EXECUTE FUNCTION videos_content_version();
+
+CREATE OR REPLACE FUNCTION video_attachments_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM bump_course_content_version_for_videos(ARRAY[OLD.video_id]);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_course_content_version_for_videos(ARRAY[OLD.video_id, NEW.video_id]);
+    ELSE
+        PERFORM bump_course_content_version_for_videos(ARRAY[NEW.video_id]);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_video_attachments_content_version
+    AFTER INSERT OR UPDATE OR DELETE ON video_attachments
+    FOR EACH ROW EXECUTE FUNCTION video_attachments_content_version();
+
+-- The course row itself is part of the tree (name, description)
+CREATE OR REPLACE FUNCTION courses_content_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.name IS DISTINCT FROM OLD.name OR NEW.description IS DISTINCT FROM OLD.description THEN
+        NEW.content_version := OLD.content_version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_courses_content_version
+    BEFORE UPDATE OF name, description ON courses
+    FOR EACH ROW EXECUTE FUNCTION courses_content_version();
+
+-- Version bumps must not re-run the search vector refresh from V19
+DROP TRIGGER trg_courses_search_refresh ON courses;
+CREATE TRIGGER trg_courses_search_refresh
+    BEFORE INSERT OR UPDATE OF name, description, category, created_by, search_vector ON courses
+    FOR EACH ROW EXECUTE FUNCTION courses_search_refresh();
+
+-- Set-based lookups of the content tree
+CREATE INDEX idx_video_attachments_video_id ON video_attachments(video_id);
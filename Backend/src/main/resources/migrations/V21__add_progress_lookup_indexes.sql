@@ -0,0 +1,4 @@
+-- Grouped progress queries join watched videos to their modules and
+-- look up one user's submissions across many quizzes.
+CREATE INDEX idx_module_videos_video_id ON module_videos(video_id);
+CREATE INDEX idx_quiz_submissions_user_quiz ON quiz_submissions(user_id, quiz_id);
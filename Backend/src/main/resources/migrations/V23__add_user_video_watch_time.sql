@@ -0,0 +1,18 @@
+-- Accumulated playback per (user, video), written in batches from the in-memory heartbeat buffer.
+-- coverage holds one bit per 10-second bucket of the video that has been played at least partly.
+
+CREATE TABLE user_video_watch_time (
+    user_id INTEGER NOT NULL,
+    video_id INTEGER NOT NULL,
+    watched_seconds BIGINT NOT NULL DEFAULT 0,
+    coverage BYTEA,
+    covered_buckets INTEGER NOT NULL DEFAULT 0,
+    completed_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (user_id, video_id),
+    CONSTRAINT fk_user_video_watch_time_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_video_watch_time_video
+        FOREIGN KEY (video_id) REFERENCES videos(id) ON DELETE CASCADE
+);
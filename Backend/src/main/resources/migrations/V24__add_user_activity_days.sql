@@ -0,0 +1,18 @@
+-- Daily learning activity per user as a bitmap: bit 0 is last_active_day, bit n the day
+-- n days before it, over a rolling window of 730 days. current_streak is the streak as of
+-- last_active_day, longest_streak the longest run ever seen.
+
+CREATE TABLE user_activity_days (
+    user_id INTEGER PRIMARY KEY,
+    days BYTEA,
+    last_active_day DATE,
+    current_streak INTEGER NOT NULL DEFAULT 0,
+    longest_streak INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_user_activity_days_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Leaderboard: live streaks, longest first
+CREATE INDEX idx_user_activity_days_streak ON user_activity_days(current_streak DESC, last_active_day);
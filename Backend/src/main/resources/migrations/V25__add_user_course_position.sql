@@ -0,0 +1,19 @@
+-- Where each learner left off in each course, written behind from the in-memory position cache.
+-- module_id / video_id are not foreign keys: a position pointing at removed content is simply not shown.
+
+CREATE TABLE user_course_position (
+    user_id INTEGER NOT NULL,
+    course_id INTEGER NOT NULL,
+    module_id INTEGER,
+    video_id INTEGER NOT NULL,
+    position_seconds INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (user_id, course_id),
+    CONSTRAINT fk_user_course_position_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_course_position_course
+        FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_user_course_position_user_recent ON user_course_position (user_id, updated_at DESC);
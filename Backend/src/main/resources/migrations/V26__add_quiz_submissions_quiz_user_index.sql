@@ -0,0 +1,4 @@
+-- Completion checks and per-course completion counts look submissions up by quiz, then user.
+-- The single-column quiz index is a prefix of the new one and is dropped.
+CREATE INDEX idx_quiz_submissions_quiz_user ON quiz_submissions(quiz_id, user_id);
+DROP INDEX IF EXISTS idx_quiz_submissions_quiz;
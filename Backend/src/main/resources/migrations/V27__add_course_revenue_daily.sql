@@ -0,0 +1,58 @@
+-- Daily revenue rollups of completed course payments, per course and currency.
+-- Maintained by RevenueRollupService when payments complete (or stop being completed);
+-- revenue reports and charts read these buckets instead of scanning simple_payments.
+-- Payments carry no currency of their own: the course's currency is used.
+
+CREATE TABLE course_revenue_daily (
+    course_id INTEGER NOT NULL,
+    day DATE NOT NULL,
+    currency currency_type NOT NULL,
+    payment_count INTEGER NOT NULL DEFAULT 0,
+    gross_amount DECIMAL(14, 2) NOT NULL DEFAULT 0.00,
+    net_amount DECIMAL(14, 2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (course_id, day, currency),
+    CONSTRAINT fk_course_revenue_daily_course
+        FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE
+);
+
+-- Platform-wide time ranges
+CREATE INDEX idx_course_revenue_daily_day ON course_revenue_daily (day);
+
+-- Recompute the buckets of days in [p_from, p_to] from simple_payments (NULL bounds are open).
+-- A payment counts on the day it was paid, or created when it has no payment date.
+CREATE OR REPLACE FUNCTION rebuild_course_revenue_daily(p_from DATE, p_to DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    affected INTEGER;
+BEGIN
+    DELETE FROM course_revenue_daily
+    WHERE (p_from IS NULL OR day >= p_from)
+      AND (p_to IS NULL OR day <= p_to);
+
+    INSERT INTO course_revenue_daily (course_id, day, currency, payment_count, gross_amount, net_amount, updated_at)
+    SELECT p.course_id,
+           p.paid_day,
+           COALESCE(c.currency, 'USD'::currency_type),
+           COUNT(*),
+           SUM(p.amount),
+           SUM(p.final_amount),
+           CURRENT_TIMESTAMP
+    FROM (
+        SELECT course_id, amount, final_amount, COALESCE(payment_date, created_at)::date AS paid_day
+        FROM simple_payments
+        WHERE status = 'COMPLETED' AND course_id IS NOT NULL
+    ) p
+    JOIN courses c ON c.id = p.course_id
+    WHERE (p_from IS NULL OR p.paid_day >= p_from)
+      AND (p_to IS NULL OR p.paid_day <= p_to)
+    GROUP BY p.course_id, p.paid_day, COALESCE(c.currency, 'USD'::currency_type);
+
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill from existing payments
+SELECT rebuild_course_revenue_daily(NULL, NULL);
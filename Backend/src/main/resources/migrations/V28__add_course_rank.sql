@@ -0,0 +1,72 @@
+-- Per-teacher ranking of courses for "top performing" lists, kept in course_rank.
+-- Rows are refreshed from course_stats and course_revenue_daily whenever enrollments,
+-- ratings or revenue of the course change, and all of them nightly as the revenue
+-- window moves. Top-N for a teacher is an index range scan on (created_by, score).
+
+CREATE TABLE course_rank (
+    course_id INTEGER PRIMARY KEY,
+    created_by INTEGER NOT NULL,
+    enrolled_count INTEGER NOT NULL DEFAULT 0,
+    average_rating DOUBLE PRECISION NOT NULL DEFAULT 0,
+    recent_revenue DECIMAL(14, 2) NOT NULL DEFAULT 0.00,
+    score DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_course_rank_course
+        FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_course_rank_teacher_score ON course_rank (created_by, score DESC, course_id);
+
+-- Enrollments and recent revenue are log-damped so a single large input cannot dominate;
+-- the rating is pulled towards 3 stars until a course has a few ratings.
+CREATE OR REPLACE FUNCTION course_rank_score(p_enrolled INTEGER, p_rating_sum BIGINT,
+                                             p_rating_count INTEGER, p_recent_revenue DECIMAL)
+RETURNS DOUBLE PRECISION AS $$
+BEGIN
+    RETURN 10.0 * LN(1 + GREATEST(p_enrolled, 0))
+         + 4.0 * (p_rating_sum + 3.0 * 5) / (p_rating_count + 5)
+         + 2.0 * LN(1 + GREATEST(p_recent_revenue, 0));
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Recompute the rank of one course, or of every course when p_course_id is NULL.
+-- Recent revenue is the gross revenue of the last 30 days.
+CREATE OR REPLACE FUNCTION refresh_course_rank(p_course_id INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    affected INTEGER;
+BEGIN
+    INSERT INTO course_rank (course_id, created_by, enrolled_count, average_rating, recent_revenue, score, updated_at)
+    SELECT c.id,
+           c.created_by,
+           COALESCE(s.enrolled_count, 0),
+           CASE WHEN COALESCE(s.rating_count, 0) > 0 THEN s.rating_sum::DOUBLE PRECISION / s.rating_count ELSE 0 END,
+           COALESCE(r.recent_revenue, 0),
+           course_rank_score(COALESCE(s.enrolled_count, 0), COALESCE(s.rating_sum, 0),
+                             COALESCE(s.rating_count, 0), COALESCE(r.recent_revenue, 0)),
+           CURRENT_TIMESTAMP
+    FROM courses c
+    LEFT JOIN course_stats s ON s.course_id = c.id
+    LEFT JOIN (
+        SELECT course_id, SUM(gross_amount) AS recent_revenue
+        FROM course_revenue_daily
+        WHERE day >= CURRENT_DATE - 30 AND (p_course_id IS NULL OR course_id = p_course_id)
+        GROUP BY course_id
+    ) r ON r.course_id = c.id
+    WHERE p_course_id IS NULL OR c.id = p_course_id
+    ON CONFLICT (course_id) DO UPDATE SET
+        created_by = EXCLUDED.created_by,
+        enrolled_count = EXCLUDED.enrolled_count,
+        average_rating = EXCLUDED.average_rating,
+        recent_revenue = EXCLUDED.recent_revenue,
+        score = EXCLUDED.score,
+        updated_at = EXCLUDED.updated_at;
+
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Seed from existing data
+SELECT refresh_course_rank(NULL);
@@ -0,0 +1,11 @@
+-- Hibernate allocates ids for these tables from their sequences in blocks of 50
+-- (pooled optimizer), which lets it send the inserts as JDBC batches. The sequence
+-- increment has to match the entities' allocationSize.
+--
+-- audit_logs stays on its identity column: audit rows are written from entity
+-- callbacks while the session flushes, where a queued insert would be missed.
+-- student_answer rows are already inserted with one JDBC batch per submission, and
+-- user_watched_videos is a join table whose rows are never id-generated by Hibernate.
+
+ALTER SEQUENCE user_course_access_id_seq INCREMENT BY 50;
+ALTER SEQUENCE package_courses_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Quiz listings filter by course and active flag and match titles by substring.
+-- pg_trgm is installed by V19.
+CREATE INDEX idx_quizzes_course_active ON quizzes(course_id, is_active);
+CREATE INDEX idx_quizzes_title_trgm ON quizzes USING gin(lower(title) gin_trgm_ops);
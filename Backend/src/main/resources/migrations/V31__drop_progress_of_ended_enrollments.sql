@@ -0,0 +1,91 @@
+-- user_course_progress holds rows for active enrollments only: revocation and expiry
+-- delete them, and the reconcile drops any that were missed
+
+-- Recompute the rows of every active enrollment matching the filters (NULL matches all),
+-- and drop the rows of (user, course) pairs left without an active access. Counting rules
+-- match LearningProgressService: lessons are distinct active videos of the course's
+-- modules, a quiz is completed once it has any submission.
+CREATE OR REPLACE FUNCTION refresh_user_course_progress(p_user_id INTEGER, p_course_id INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    affected INTEGER;
+BEGIN
+    DELETE FROM user_course_progress p
+    WHERE (p_user_id IS NULL OR p.user_id = p_user_id)
+      AND (p_course_id IS NULL OR p.course_id = p_course_id)
+      AND NOT EXISTS (SELECT 1 FROM user_course_access a
+                      WHERE a.user_id = p.user_id AND a.course_id = p.course_id AND a.is_active = true);
+
+    INSERT INTO user_course_progress (user_id, course_id, total_modules, watched_lessons, total_lessons,
+                                      completed_quizzes, total_quizzes, progress_pct, last_activity_at, updated_at)
+    SELECT a.user_id,
+           a.course_id,
+           COALESCE(l.module_count, 0),
+           COALESCE(w.watched_count, 0),
+           COALESCE(l.lesson_count, 0),
+           COALESCE(s.completed_count, 0),
+           COALESCE(q.quiz_count, 0),
+           course_progress_pct(COALESCE(w.watched_count, 0), COALESCE(l.lesson_count, 0),
+                               COALESCE(s.completed_count, 0), COALESCE(q.quiz_count, 0)),
+           GREATEST(w.last_watched_at, s.last_submitted_at),
+           CURRENT_TIMESTAMP
+    FROM (
+        SELECT DISTINCT user_id, course_id
+        FROM user_course_access
+        WHERE is_active = true
+          AND (p_user_id IS NULL OR user_id = p_user_id)
+          AND (p_course_id IS NULL OR course_id = p_course_id)
+    ) a
+    LEFT JOIN (
+        SELECT cm.course_id, COUNT(DISTINCT cm.module_id) AS module_count, COUNT(DISTINCT v.id) AS lesson_count
+        FROM course_modules cm
+        LEFT JOIN module_videos mv ON mv.module_id = cm.module_id
+        LEFT JOIN videos v ON v.id = mv.video_id AND v.is_active = true
+        WHERE p_course_id IS NULL OR cm.course_id = p_course_id
+        GROUP BY cm.course_id
+    ) l ON l.course_id = a.course_id
+    LEFT JOIN (
+        SELECT course_id, COUNT(*) AS quiz_count
+        FROM quizzes
+        WHERE p_course_id IS NULL OR course_id = p_course_id
+        GROUP BY course_id
+    ) q ON q.course_id = a.course_id
+    LEFT JOIN (
+        SELECT uwv.user_id, cm.course_id, COUNT(DISTINCT uwv.video_id) AS watched_count,
+               MAX(uwv.created_at) AS last_watched_at
+        FROM user_watched_videos uwv
+        JOIN videos v ON v.id = uwv.video_id AND v.is_active = true
+        JOIN module_videos mv ON mv.video_id = uwv.video_id
+        JOIN course_modules cm ON cm.module_id = mv.module_id
+        WHERE (p_user_id IS NULL OR uwv.user_id = p_user_id)
+          AND (p_course_id IS NULL OR cm.course_id = p_course_id)
+        GROUP BY uwv.user_id, cm.course_id
+    ) w ON w.user_id = a.user_id AND w.course_id = a.course_id
+    LEFT JOIN (
+        SELECT qs.user_id, qz.course_id, COUNT(DISTINCT qz.id) AS completed_count,
+               MAX(qs.created_at) AS last_submitted_at
+        FROM quiz_submissions qs
+        JOIN quizzes qz ON qz.id = qs.quiz_id
+        WHERE (p_user_id IS NULL OR qs.user_id = p_user_id)
+          AND (p_course_id IS NULL OR qz.course_id = p_course_id)
+        GROUP BY qs.user_id, qz.course_id
+    ) s ON s.user_id = a.user_id AND s.course_id = a.course_id
+    ON CONFLICT (user_id, course_id) DO UPDATE SET
+        total_modules = EXCLUDED.total_modules,
+        watched_lessons = EXCLUDED.watched_lessons,
+        total_lessons = EXCLUDED.total_lessons,
+        completed_quizzes = EXCLUDED.completed_quizzes,
+        total_quizzes = EXCLUDED.total_quizzes,
+        progress_pct = EXCLUDED.progress_pct,
+        last_activity_at = GREATEST(user_course_progress.last_activity_at, EXCLUDED.last_activity_at),
+        updated_at = EXCLUDED.updated_at;
+
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drop rows of enrollments revoked or expired before this migration
+DELETE FROM user_course_progress p
+WHERE NOT EXISTS (SELECT 1 FROM user_course_access a
+                  WHERE a.user_id = p.user_id AND a.course_id = p.course_id AND a.is_active = true);
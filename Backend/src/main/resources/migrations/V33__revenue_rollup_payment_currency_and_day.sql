@@ -0,0 +1,93 @@
+-- Revenue rollups follow the payment, not the course as it is today:
+--  * payments record the currency they were made in (the course's currency at purchase time),
+--    so a later change of the course's currency no longer moves past revenue between buckets;
+--  * the day bucket of a payment is computed by the database, in the incremental upsert as in
+--    the rebuild, so both agree whatever the application server's time zone is;
+--  * the rebuild upserts its buckets under a lock instead of deleting and re-inserting them,
+--    so it cannot collide with (or lose) payments completing while it runs.
+
+ALTER TABLE simple_payments ADD COLUMN currency currency_type;
+
+UPDATE simple_payments p
+SET currency = COALESCE(c.currency, 'USD'::currency_type)
+FROM courses c
+WHERE c.id = p.course_id;
+
+-- Add (p_sign = 1) or remove (p_sign = -1) one payment to the bucket of its course, day and currency
+CREATE OR REPLACE FUNCTION apply_course_revenue_payment(p_payment_id INTEGER, p_sign INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    affected INTEGER;
+BEGIN
+    INSERT INTO course_revenue_daily (course_id, day, currency, payment_count, gross_amount, net_amount, updated_at)
+    SELECT p.course_id,
+           COALESCE(p.payment_date, p.created_at)::date,
+           COALESCE(p.currency, c.currency, 'USD'::currency_type),
+           p_sign,
+           p_sign * p.amount,
+           p_sign * p.final_amount,
+           CURRENT_TIMESTAMP
+    FROM simple_payments p
+    JOIN courses c ON c.id = p.course_id
+    WHERE p.id = p_payment_id
+    ON CONFLICT (course_id, day, currency) DO UPDATE SET
+        payment_count = course_revenue_daily.payment_count + EXCLUDED.payment_count,
+        gross_amount = course_revenue_daily.gross_amount + EXCLUDED.gross_amount,
+        net_amount = course_revenue_daily.net_amount + EXCLUDED.net_amount,
+        updated_at = EXCLUDED.updated_at;
+
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recompute the buckets of days in [p_from, p_to] from simple_payments (NULL bounds are open).
+-- The lock waits for transactions that already touched a bucket and holds off new ones until
+-- the rebuild commits; those then add their payment on top of the rebuilt bucket.
+CREATE OR REPLACE FUNCTION rebuild_course_revenue_daily(p_from DATE, p_to DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    affected INTEGER;
+BEGIN
+    LOCK TABLE course_revenue_daily IN SHARE ROW EXCLUSIVE MODE;
+
+    WITH rebuilt AS (
+        SELECT p.course_id,
+               p.paid_day AS day,
+               COALESCE(p.currency, c.currency, 'USD'::currency_type) AS currency,
+               COUNT(*) AS payment_count,
+               SUM(p.amount) AS gross_amount,
+               SUM(p.final_amount) AS net_amount
+        FROM (
+            SELECT course_id, currency, amount, final_amount, COALESCE(payment_date, created_at)::date AS paid_day
+            FROM simple_payments
+            WHERE status = 'COMPLETED' AND course_id IS NOT NULL
+        ) p
+        JOIN courses c ON c.id = p.course_id
+        WHERE (p_from IS NULL OR p.paid_day >= p_from)
+          AND (p_to IS NULL OR p.paid_day <= p_to)
+        GROUP BY p.course_id, p.paid_day, COALESCE(p.currency, c.currency, 'USD'::currency_type)
+    ), emptied AS (
+        -- Buckets of the range that no longer have any completed payment
+        DELETE FROM course_revenue_daily r
+        WHERE (p_from IS NULL OR r.day >= p_from)
+          AND (p_to IS NULL OR r.day <= p_to)
+          AND NOT EXISTS (SELECT 1 FROM rebuilt b
+                          WHERE b.course_id = r.course_id AND b.day = r.day AND b.currency = r.currency)
+    )
+    INSERT INTO course_revenue_daily (course_id, day, currency, payment_count, gross_amount, net_amount, updated_at)
+    SELECT course_id, day, currency, payment_count, gross_amount, net_amount, CURRENT_TIMESTAMP
+    FROM rebuilt
+    ON CONFLICT (course_id, day, currency) DO UPDATE SET
+        payment_count = EXCLUDED.payment_count,
+        gross_amount = EXCLUDED.gross_amount,
+        net_amount = EXCLUDED.net_amount,
+        updated_at = EXCLUDED.updated_at;
+
+    GET DIAGNOSTICS affected = ROW_COUNT;
+    RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Re-bucket existing payments by their own currency
+SELECT rebuild_course_revenue_daily(NULL, NULL);
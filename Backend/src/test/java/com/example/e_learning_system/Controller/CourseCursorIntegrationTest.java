@@ -0,0 +1,83 @@
+package com.example.e_learning_system.Controller;
+
+import com.example.e_learning_system.Dto.CourseDtos.CourseFilterDto;
+import com.example.e_learning_system.Dto.CourseDtos.CourseSummaryDto;
+import com.example.e_learning_system.Dto.CursorPageDto;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.UserEntity;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.UserRepository;
+import com.example.e_learning_system.Service.CourseServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class CourseCursorIntegrationTest extends BaseIntegrationTest {
+
+    private static final String NAME_PREFIX = "Cursor Test Course";
+
+    @Autowired
+    private CourseServiceImpl courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Integer> courseIds;
+
+    @BeforeEach
+    void setupCourses() {
+        UserEntity admin = userRepository.findByEmail("admin@example.com").orElseThrow();
+        courseIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Course course = new Course();
+            course.setName(NAME_PREFIX + " " + i);
+            course.setDescription("Keyset pagination over created_at");
+            course.setActive(true);
+            course.setCreatedBy(admin);
+            courseIds.add(courseRepository.saveAndFlush(course).getId());
+        }
+        // created_at is nullable in the schema; rows imported without it must still be paged
+        jdbcTemplate.update("UPDATE courses SET created_at = NULL WHERE id IN (?, ?)", courseIds.get(1), courseIds.get(3));
+    }
+
+    @Test
+    void pagesAscendingByCreatedAtAcrossNullRows() {
+        assertThat(pageThrough(Sort.by("createdAt").ascending()))
+                .containsExactly(courseIds.get(0), courseIds.get(2), courseIds.get(1), courseIds.get(3));
+    }
+
+    @Test
+    void pagesDescendingByCreatedAtAcrossNullRows() {
+        assertThat(pageThrough(Sort.by("createdAt").descending()))
+                .containsExactly(courseIds.get(3), courseIds.get(1), courseIds.get(2), courseIds.get(0));
+    }
+
+    private List<Integer> pageThrough(Sort sort) {
+        CourseFilterDto filter = CourseFilterDto.builder().name(NAME_PREFIX).build();
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<CourseSummaryDto> page = courseService.getCoursesByCursor(filter, cursor,
+                    PageRequest.of(0, 1, sort), false);
+            page.getContent().forEach(course -> seen.add(course.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null && seen.size() <= courseIds.size());
+        return seen;
+    }
+}
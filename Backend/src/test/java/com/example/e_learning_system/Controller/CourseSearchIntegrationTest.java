@@ -0,0 +1,67 @@
+package com.example.e_learning_system.Controller;
+
+import com.example.e_learning_system.Config.Category;
+import com.example.e_learning_system.Config.CourseStatus;
+import com.example.e_learning_system.Dto.CourseDtos.CourseSearchResultDto;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.UserEntity;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.UserRepository;
+import com.example.e_learning_system.Service.Interfaces.CourseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class CourseSearchIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity author = userRepository.findByEmail("admin@example.com").orElseThrow();
+        course = new Course();
+        course.setName("Frontend Basics");
+        course.setDescription("HTML and CSS from scratch");
+        course.setCategory(Category.WEB_DEVELOPMENT);
+        course.setStatus(CourseStatus.PUBLISHED);
+        course.setActive(true);
+        course.setCreatedBy(author);
+        course = courseRepository.saveAndFlush(course);
+    }
+
+    @Test
+    void searchCourses_ShouldMatchCategoryWrittenWithSpacesOrUnderscores() {
+        assertThat(matchType(courseService.searchCourses("web development"))).isEqualTo("category");
+        assertThat(matchType(courseService.searchCourses("Web_Development"))).isEqualTo("category");
+    }
+
+    @Test
+    void searchCourses_ShouldMatchLikeWildcardsLiterally() {
+        assertThat(matchType(courseService.searchCourses("frontend"))).isEqualTo("title");
+        assertThat(courseService.searchCourses("front%basics"))
+                .noneMatch(result -> result.getId() == course.getId());
+    }
+
+    private String matchType(List<CourseSearchResultDto> results) {
+        return results.stream()
+                .filter(result -> result.getId() == course.getId())
+                .map(CourseSearchResultDto::getMatchType)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -179,6 +179,11 @@ public class QuizIntegrationTest extends BaseIntegrationTest {
                 .getResponse()
                 .getContentAsString();
 
-        assertThat(response).contains("Sample Quiz");
+        assertThat(response).contains("Sample Quiz").contains("\"totalElements\":1");
+
+        mockMvc.perform(get("/quizzes/getQuizzes")
+                        .param("sort", "course.createdBy.password")
+                        .header("Authorization", "Bearer " + generateToken()))
+                .andExpect(status().isBadRequest());
     }
 }
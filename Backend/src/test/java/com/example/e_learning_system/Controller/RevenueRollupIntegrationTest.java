@@ -0,0 +1,112 @@
+package com.example.e_learning_system.Controller;
+
+import com.example.e_learning_system.Config.Currency;
+import com.example.e_learning_system.Config.SimplePaymentStatus;
+import com.example.e_learning_system.Config.SimplePaymentType;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.SimplePayment;
+import com.example.e_learning_system.Entities.UserEntity;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.SimplePaymentRepository;
+import com.example.e_learning_system.Repository.UserRepository;
+import com.example.e_learning_system.Service.Interfaces.SimplePaymentService;
+import com.example.e_learning_system.Service.RevenueRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * course_revenue_daily kept by payment status changes and repaired by the nightly
+ * reconcile: both must land a payment in the same bucket, in the payment's currency.
+ */
+@Transactional
+class RevenueRollupIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SimplePaymentService simplePaymentService;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private SimplePaymentRepository simplePaymentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEntity buyer;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.findByEmail("admin@example.com").orElseThrow();
+        course = new Course();
+        course.setName("Revenue Test Course");
+        course.setDescription("Revenue rollups");
+        course.setCurrency(Currency.USD);
+        course.setActive(true);
+        course.setCreatedBy(buyer);
+        course = courseRepository.save(course);
+    }
+
+    @Test
+    void rollupAndReconcileAgreeOnBucketsInThePaymentCurrency() {
+        SimplePayment payment = pendingPayment(new BigDecimal("50.00"), Currency.USD);
+
+        simplePaymentService.processPayment(payment.getId(), "pi_revenue_test");
+        assertBuckets("USD", 1, "50.00");
+
+        // Past revenue stays in the currency it was paid in
+        course.setCurrency(Currency.EUR);
+        courseRepository.saveAndFlush(course);
+        revenueRollupService.reconcile();
+        assertBuckets("USD", 1, "50.00");
+
+        simplePaymentService.updatePaymentStatus(payment.getId(), SimplePaymentStatus.REFUNDED);
+        assertBuckets("USD", 0, "0.00");
+
+        // Buckets left without completed payments are dropped
+        revenueRollupService.reconcile();
+        assertThat(buckets()).isEmpty();
+    }
+
+    private SimplePayment pendingPayment(BigDecimal amount, Currency currency) {
+        return simplePaymentRepository.saveAndFlush(SimplePayment.builder()
+                .user(buyer)
+                .course(course)
+                .paymentType(SimplePaymentType.COURSE_PURCHASE)
+                .amount(amount)
+                .finalAmount(amount)
+                .currency(currency)
+                .status(SimplePaymentStatus.PENDING)
+                .build());
+    }
+
+    private void assertBuckets(String currency, int payments, String gross) {
+        List<Map<String, Object>> rows = buckets();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("currency")).isEqualTo(currency);
+        assertThat(((Number) rows.get(0).get("payment_count")).intValue()).isEqualTo(payments);
+        assertThat((BigDecimal) rows.get(0).get("gross_amount")).isEqualByComparingTo(gross);
+    }
+
+    private List<Map<String, Object>> buckets() {
+        return jdbcTemplate.queryForList(
+                "SELECT CAST(currency AS VARCHAR) AS currency, payment_count, gross_amount " +
+                "FROM course_revenue_daily WHERE course_id = ?", course.getId());
+    }
+}
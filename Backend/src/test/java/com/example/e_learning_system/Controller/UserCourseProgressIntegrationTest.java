@@ -0,0 +1,226 @@
+package com.example.e_learning_system.Controller;
+
+import com.example.e_learning_system.Config.AccessType;
+import com.example.e_learning_system.Dto.UserVideoDTO;
+import com.example.e_learning_system.Dto.quizzes.QuizSubmitDTO;
+import com.example.e_learning_system.Entities.*;
+import com.example.e_learning_system.Entities.Module;
+import com.example.e_learning_system.Repository.*;
+import com.example.e_learning_system.Security.JwtUtil;
+import com.example.e_learning_system.Service.Interfaces.UserCourseAccessService;
+import com.example.e_learning_system.Service.UserCourseProgressService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * user_course_progress through an enrollment's life: grant, watch, quiz, revoke. Only
+ * active content counts: the course also holds an inactive module, an inactive lesson
+ * link and an inactive quiz, which must not show up in any counter.
+ */
+@AutoConfigureMockMvc
+@Transactional
+class UserCourseProgressIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private CourseModulesRepository courseModulesRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private ModuleVideosRepository moduleVideosRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserCourseAccessService userCourseAccessService;
+
+    @Autowired
+    private UserCourseProgressService userCourseProgressService;
+
+    private UserEntity learner;
+    private String token;
+    private Course course;
+    private VideoEntity lesson;
+    private VideoEntity unlinkedLesson;
+    private VideoEntity inactiveModuleLesson;
+    private QuizEntity quiz;
+    private QuizEntity inactiveQuiz;
+
+    @BeforeEach
+    void setUp() {
+        learner = userRepository.findByEmail("admin@example.com").orElseThrow();
+        token = jwtUtil.generateToken(learner);
+
+        course = new Course();
+        course.setName("Progress Test Course");
+        course.setDescription("Progress over active content");
+        course.setActive(true);
+        course.setCreatedBy(learner);
+        course = courseRepository.save(course);
+
+        Module module = newModule("Active module");
+        Module hiddenModule = newModule("Inactive module");
+        linkModule(module, 1, true);
+        linkModule(hiddenModule, 2, false);
+
+        lesson = newVideo("Lesson 1");
+        VideoEntity secondLesson = newVideo("Lesson 2");
+        unlinkedLesson = newVideo("Lesson with an inactive link");
+        inactiveModuleLesson = newVideo("Lesson of the inactive module");
+        linkVideo(module, lesson, 1, true);
+        linkVideo(module, secondLesson, 2, true);
+        linkVideo(module, unlinkedLesson, 3, false);
+        linkVideo(hiddenModule, inactiveModuleLesson, 1, true);
+
+        quiz = newQuiz("Active quiz", true);
+        inactiveQuiz = newQuiz("Inactive quiz", false);
+    }
+
+    @Test
+    void progressFollowsGrantWatchQuizAndRevoke() throws Exception {
+        userCourseAccessService.grantCourseAccess(learner.getId(), course.getId(), AccessType.PURCHASED, null, null);
+        assertCounts(progressRow(), 1, 2, 0, 1, 0);
+
+        watch(lesson);
+        watch(unlinkedLesson);
+        watch(inactiveModuleLesson);
+        assertCounts(progressRow(), 1, 2, 1, 1, 0);
+
+        submit(quiz);
+        submit(inactiveQuiz);
+        Map<String, Object> row = progressRow();
+        assertCounts(row, 1, 2, 1, 1, 1);
+        assertThat(((Number) row.get("progress_pct")).doubleValue()).isGreaterThan(0);
+
+        // The nightly recompute agrees with the incremental updates
+        userCourseProgressService.reconcile();
+        assertCounts(progressRow(), 1, 2, 1, 1, 1);
+
+        userCourseAccessService.revokeCourseAccess(learner.getId(), course.getId());
+        assertThat(progressRows()).isEmpty();
+    }
+
+    private void watch(VideoEntity video) throws Exception {
+        UserVideoDTO dto = new UserVideoDTO();
+        dto.setVideoId(video.getId());
+        mockMvc.perform(post("/watchVideo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    private void submit(QuizEntity quizToSubmit) throws Exception {
+        QuizSubmitDTO dto = new QuizSubmitDTO();
+        dto.setQuizId(quizToSubmit.getId());
+        dto.setAnswers(new ArrayList<>());
+        mockMvc.perform(post("/submitQuiz")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    private static void assertCounts(Map<String, Object> row, int modules, int lessons, int watched,
+                                     int quizzes, int completed) {
+        assertThat(((Number) row.get("total_modules")).intValue()).isEqualTo(modules);
+        assertThat(((Number) row.get("total_lessons")).intValue()).isEqualTo(lessons);
+        assertThat(((Number) row.get("watched_lessons")).intValue()).isEqualTo(watched);
+        assertThat(((Number) row.get("total_quizzes")).intValue()).isEqualTo(quizzes);
+        assertThat(((Number) row.get("completed_quizzes")).intValue()).isEqualTo(completed);
+    }
+
+    private Map<String, Object> progressRow() {
+        List<Map<String, Object>> rows = progressRows();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private List<Map<String, Object>> progressRows() {
+        return jdbcTemplate.queryForList("SELECT * FROM user_course_progress WHERE user_id = ? AND course_id = ?",
+                learner.getId(), course.getId());
+    }
+
+    private Module newModule(String name) {
+        Module module = new Module();
+        module.setName(name);
+        module.setActive(true);
+        module.setCreatedBy(learner);
+        return moduleRepository.save(module);
+    }
+
+    private void linkModule(Module module, int order, boolean active) {
+        CourseModules courseModule = new CourseModules();
+        courseModule.setCourse(course);
+        courseModule.setModule(module);
+        courseModule.setModuleOrder(order);
+        courseModule.setActive(active);
+        courseModulesRepository.save(courseModule);
+    }
+
+    private VideoEntity newVideo(String title) {
+        VideoEntity video = new VideoEntity();
+        video.setTitle(title);
+        video.setMetadata(Map.of());
+        video.setIsActive(true);
+        video.setUploadedBy(learner);
+        return videoRepository.save(video);
+    }
+
+    private void linkVideo(Module module, VideoEntity video, int order, boolean active) {
+        ModuleVideos moduleVideo = new ModuleVideos();
+        moduleVideo.setModule(module);
+        moduleVideo.setVideo(video);
+        moduleVideo.setVideoOrder(order);
+        moduleVideo.setActive(active);
+        moduleVideosRepository.save(moduleVideo);
+    }
+
+    private QuizEntity newQuiz(String title, boolean active) {
+        QuizEntity newQuiz = new QuizEntity();
+        newQuiz.setTitle(title);
+        newQuiz.setTotalScore(0);
+        newQuiz.setIsActive(active);
+        newQuiz.setCourse(course);
+        newQuiz.setQuestions(new ArrayList<>());
+        return quizRepository.save(newQuiz);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.e_learning_system.Repository;
+
+import com.example.e_learning_system.Config.AccessType;
+import com.example.e_learning_system.Controller.BaseIntegrationTest;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.UserEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows/sec of Hibernate persisting the same rows into user_course_access with two id
+ * strategies: IDENTITY (one INSERT ... RETURNING per row, no batching) and a pooled
+ * sequence (ids reserved 50 at a time, inserts sent as JDBC batches). The two mappings
+ * below differ only in their id generation. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class InsertBatchingBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserCourseAccessRepository userCourseAccessRepository;
+
+    @Test
+    void identityVsPooledInserts() {
+        UserEntity user = userRepository.findByEmail("admin@example.com").orElseThrow();
+        Course course = new Course();
+        course.setName("Benchmark Course");
+        course.setDescription("Insert batching benchmark");
+        course.setActive(true);
+        course.setCreatedBy(user);
+        int courseId = courseRepository.save(course).getId();
+
+        Supplier<AccessRow> identityRow = () -> new IdentityAccessRow().fill(user.getId(), courseId);
+        Supplier<AccessRow> pooledRow = () -> new PooledAccessRow().fill(user.getId(), courseId);
+
+        persistAll(identityRow, WARMUP_ROWS);
+        persistAll(pooledRow, WARMUP_ROWS);
+        long rowsBefore = userCourseAccessRepository.count();
+
+        double identity = persistAll(identityRow, ROWS);
+        double pooled = persistAll(pooledRow, ROWS);
+
+        log.info("Hibernate inserts into user_course_access, {} rows each: identity ids {} rows/s, "
+                        + "pooled sequence ids {} rows/s ({}x)", ROWS, Math.round(identity), Math.round(pooled),
+                String.format("%.1f", pooled / identity));
+
+        assertThat(userCourseAccessRepository.count()).isEqualTo(rowsBefore + 2L * ROWS);
+    }
+
+    /**
+     * Persist {@code rows} new entities in one transaction and return the rows/sec achieved.
+     */
+    private double persistAll(Supplier<AccessRow> factory, int rows) {
+        List<AccessRow> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            entities.add(factory.get());
+        }
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> entities.forEach(entityManager::persist));
+        return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    /**
+     * The user_course_access columns both benchmark mappings write. The mappings validate
+     * against the real table, so they are harmless in the other integration test contexts.
+     */
+    @Getter
+    @Setter
+    @MappedSuperclass
+    abstract static class AccessRow {
+
+        @Column(name = "user_id", nullable = false)
+        private Integer userId;
+
+        @Column(name = "course_id", nullable = false)
+        private Integer courseId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "access_type", nullable = false)
+        @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+        private AccessType accessType;
+
+        @Column(name = "is_active")
+        private Boolean isActive;
+
+        AccessRow fill(Integer userId, Integer courseId) {
+            this.userId = userId;
+            this.courseId = courseId;
+            this.accessType = AccessType.PURCHASED;
+            this.isActive = true;
+            return this;
+        }
+    }
+
+    @Entity
+    @Table(name = "user_course_access")
+    static class IdentityAccessRow extends AccessRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Integer id;
+    }
+
+    @Entity
+    @Table(name = "user_course_access")
+    static class PooledAccessRow extends AccessRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "insert_benchmark_pooled")
+        @SequenceGenerator(name = "insert_benchmark_pooled", sequenceName = "user_course_access_id_seq", allocationSize = 50)
+        private Integer id;
+    }
+}
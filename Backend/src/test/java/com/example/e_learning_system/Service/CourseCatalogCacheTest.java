@@ -0,0 +1,103 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.CacheStatsDto;
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCatalogCacheTest {
+
+    private CourseCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CourseCatalogCache(2, 300);
+    }
+
+    @Test
+    void getDetail_ShouldLoadOnceAndServeHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("course-1", cache.getDetail(1, () -> "course-" + loads.incrementAndGet()));
+        assertEquals("course-1", cache.getDetail(1, () -> "course-" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+        CacheStatsDto details = cache.getStats().get(0);
+        assertEquals(1, details.getHits());
+        assertEquals(1, details.getMisses());
+        assertEquals(0.5, details.getHitRate());
+    }
+
+    @Test
+    void onCourseChanged_ShouldDropDetailAndAllListings() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail(1, loads::incrementAndGet);
+        cache.getDetail(2, loads::incrementAndGet);
+        cache.getListing(loads::incrementAndGet, "all");
+
+        cache.onCourseChanged(new CourseChangedEvent(1, CourseChangedEvent.ChangeType.UPDATED));
+
+        assertEquals(4, cache.getDetail(1, loads::incrementAndGet));
+        assertEquals(2, cache.getDetail(2, loads::incrementAndGet));
+        assertEquals(5, cache.getListing(loads::incrementAndGet, "all"));
+    }
+
+    @Test
+    void getDetail_ShouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        cache.getDetail(1, () -> "a");
+        cache.getDetail(2, () -> "b");
+        cache.getDetail(1, () -> "a");
+        cache.getDetail(3, () -> "c");
+
+        assertEquals("a", cache.getDetail(1, () -> "reloaded"));
+        assertEquals("reloaded", cache.getDetail(2, () -> "reloaded"));
+    }
+
+    @Test
+    void getDetail_ShouldShareOneLoadAcrossConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.getDetail(7, () -> {
+                loaderStarted.countDown();
+                await(release);
+                return loads.incrementAndGet();
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.getDetail(7, loads::incrementAndGet)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
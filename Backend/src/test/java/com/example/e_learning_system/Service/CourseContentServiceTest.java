@@ -0,0 +1,94 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Dto.CourseDtos.CourseContentDto;
+import com.example.e_learning_system.Repository.CourseModulesRepository;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.ModuleVideosRepository;
+import com.example.e_learning_system.Repository.VideoAttachmentsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseContentServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseModulesRepository courseModulesRepository;
+
+    @Mock
+    private ModuleVideosRepository moduleVideosRepository;
+
+    @Mock
+    private VideoAttachmentsRepository videoAttachmentsRepository;
+
+    private CourseContentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CourseContentService(courseRepository, courseModulesRepository,
+                moduleVideosRepository, videoAttachmentsRepository, 2);
+        when(courseModulesRepository.findContentModulesByCourseId(anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void getCourseContent_ShouldServeCopiesOfTheCachedTree() {
+        stubVersion(1, 7);
+
+        CourseContentDto first = service.getCourseContent(1);
+        first.setCourseName("Changed by a caller");
+        first.getModules().add(null);
+        CourseContentDto second = service.getCourseContent(1);
+
+        assertEquals("Course 1", second.getCourseName());
+        assertTrue(second.getModules().isEmpty());
+        verify(courseModulesRepository, times(1)).findContentModulesByCourseId(1);
+    }
+
+    @Test
+    void getCourseContent_ShouldRebuildWhenTheVersionChanges() {
+        stubVersion(1, 7);
+        service.getCourseContent(1);
+
+        stubVersion(1, 8);
+        assertEquals(8, service.getCourseContent(1).getContentVersion());
+
+        assertEquals(1, service.size());
+        verify(courseModulesRepository, times(2)).findContentModulesByCourseId(1);
+    }
+
+    @Test
+    void getCourseContent_ShouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        stubVersion(1, 1);
+        stubVersion(2, 1);
+        stubVersion(3, 1);
+        service.getCourseContent(1);
+        service.getCourseContent(2);
+        service.getCourseContent(1);
+
+        service.getCourseContent(3);
+
+        assertEquals(2, service.size());
+        service.getCourseContent(1);
+        service.getCourseContent(2);
+        verify(courseModulesRepository, times(1)).findContentModulesByCourseId(1);
+        verify(courseModulesRepository, times(2)).findContentModulesByCourseId(2);
+    }
+
+    private void stubVersion(int courseId, long version) {
+        List<Object[]> header = new ArrayList<>();
+        header.add(new Object[]{"Course " + courseId, "Description", version});
+        when(courseRepository.findContentHeaderById(courseId)).thenReturn(header);
+    }
+}
@@ -17,6 +17,7 @@ import com.example.e_learning_system.Repository.TagsRepository;
 import com.example.e_learning_system.Repository.UserRepository;
 import com.example.e_learning_system.excpetions.ResourceNotFound;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -73,6 +75,12 @@ class CourseServiceImplTest {
     @Mock
     private AttachmentRepository attachmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserCourseProgressService userCourseProgressService;
+
     private CreateCourseDto createCourseDto;
     private UpdateCourseDto updateCourseDto;
     private CourseDetailsDto courseDetailsDto;
@@ -112,13 +120,14 @@ class CourseServiceImplTest {
     @Test
     void getCourses_ShouldReturnCourseSummaryList() {
         // Arrange
-        List<Course> courses = Arrays.asList(course);
+        Tuple row = mock(Tuple.class);
+        List<Tuple> rows = Arrays.asList(row);
         List<CourseSummaryDto> expectedDtos = Arrays.asList(courseSummaryDto);
         
-        when(courseRepository.findAll()).thenReturn(courses);
+        when(courseRepository.findAllCourseSummaries()).thenReturn(rows);
         
         try (MockedStatic<CourseMapper> mockedMapper = mockStatic(CourseMapper.class)) {
-            mockedMapper.when(() -> CourseMapper.fromCourseEntitiesToCourseSummaryDtos(courses))
+            mockedMapper.when(() -> CourseMapper.fromSummaryTuplesToCourseSummaryDtos(rows))
                        .thenReturn(expectedDtos);
 
             // Act
@@ -128,8 +137,9 @@ class CourseServiceImplTest {
             assertNotNull(result);
             assertEquals(1, result.size());
             assertEquals(expectedDtos, result);
-            verify(courseRepository).findAll();
-            mockedMapper.verify(() -> CourseMapper.fromCourseEntitiesToCourseSummaryDtos(courses));
+            verify(courseRepository).findAllCourseSummaries();
+            verify(courseRepository, never()).findAll();
+            mockedMapper.verify(() -> CourseMapper.fromSummaryTuplesToCourseSummaryDtos(rows));
         }
     }
 
@@ -179,7 +189,7 @@ class CourseServiceImplTest {
         // Arrange
         Integer courseId = 1;
         
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+        when(courseRepository.findDetailById(courseId)).thenReturn(Optional.of(course));
         
         try (MockedStatic<CourseMapper> mockedMapper = mockStatic(CourseMapper.class)) {
             mockedMapper.when(() -> CourseMapper.fromCourseEntityToCourseDetailsDto(course))
@@ -191,7 +201,7 @@ class CourseServiceImplTest {
             // Assert
             assertNotNull(result);
             assertEquals(courseDetailsDto, result);
-            verify(courseRepository).findById(courseId);
+            verify(courseRepository).findDetailById(courseId);
             mockedMapper.verify(() -> CourseMapper.fromCourseEntityToCourseDetailsDto(course));
         }
     }
@@ -201,12 +211,12 @@ class CourseServiceImplTest {
         // Arrange
         Integer courseId = 1;
         
-        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+        when(courseRepository.findDetailById(courseId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFound.class, () -> 
             courseService.getCourseById(courseId));
-        verify(courseRepository).findById(courseId);
+        verify(courseRepository).findDetailById(courseId);
     }
 
     @Test
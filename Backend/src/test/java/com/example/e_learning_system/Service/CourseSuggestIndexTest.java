@@ -0,0 +1,130 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Config.CourseStatus;
+import com.example.e_learning_system.Dto.CourseDtos.CourseSuggestionDto;
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.CourseStats;
+import com.example.e_learning_system.Entities.TagsEntity;
+import com.example.e_learning_system.Events.CourseChangedEvent;
+import com.example.e_learning_system.Repository.CourseRepository;
+import com.example.e_learning_system.Repository.CourseStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSuggestIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CourseSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseSuggestIndex(courseRepository, courseStatsRepository, transactionManager);
+    }
+
+    @Test
+    void suggest_ShouldMatchWordStartsIgnoringCase() {
+        rebuildWith(List.of(course(1, "Spring Boot Basics", "Java")), List.of());
+
+        assertEquals(List.of("Spring Boot Basics"), texts(index.suggest("SPR", 10)));
+        assertEquals(List.of("Spring Boot Basics"), texts(index.suggest("boot ba", 10)));
+        assertTrue(index.suggest("oot", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ShouldRankByPopularityAndSumSharedTerms() {
+        rebuildWith(
+                List.of(course(1, "Java Basics", "Backend"), course(2, "Java Advanced", "Backend")),
+                List.of(stats(1, 5), stats(2, 50)));
+
+        List<CourseSuggestionDto> javaCourses = index.suggest("java", 10);
+        assertEquals(List.of("Java Advanced", "Java Basics"), texts(javaCourses));
+        assertEquals(2, javaCourses.get(0).getCourseId());
+        assertEquals(1, index.suggest("java", 1).size());
+
+        CourseSuggestionDto tag = index.suggest("backend", 10).get(0);
+        assertEquals("tag", tag.getType());
+        assertNull(tag.getCourseId());
+        assertEquals(55, tag.getPopularity());
+    }
+
+    @Test
+    void onCourseChanged_ShouldAddAndRemoveCourses() {
+        rebuildWith(List.of(), List.of());
+        Course course = course(3, "Kotlin Coroutines", "Mobile");
+        when(courseRepository.findWithTagsAndCreatorById(3)).thenReturn(Optional.of(course));
+
+        index.onCourseChanged(new CourseChangedEvent(3, CourseChangedEvent.ChangeType.CREATED));
+        assertEquals(List.of("Kotlin Coroutines"), texts(index.suggest("corou", 10)));
+        assertEquals(List.of("Mobile"), texts(index.suggest("mob", 10)));
+
+        course.setActive(false);
+        index.onCourseChanged(new CourseChangedEvent(3, CourseChangedEvent.ChangeType.ACTIVATION_CHANGED));
+        assertTrue(index.suggest("corou", 10).isEmpty());
+        assertTrue(index.suggest("mob", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesCommittedWhileItReadsTheSnapshot() {
+        when(courseRepository.findWithTagsAndCreatorById(4))
+                .thenReturn(Optional.of(course(4, "Rust Ownership", "Systems")));
+        when(courseStatsRepository.findAll()).thenReturn(List.of());
+        // The course is renamed after the rebuild read its (stale) row
+        when(courseRepository.findPublishedWithTagsAndCreator()).thenAnswer(invocation -> {
+            index.onCourseChanged(new CourseChangedEvent(4, CourseChangedEvent.ChangeType.UPDATED));
+            return List.of(course(4, "Rust Basics", "Systems"));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of("Rust Ownership"), texts(index.suggest("rust", 10)));
+        assertTrue(index.suggest("basics", 10).isEmpty());
+    }
+
+    private void rebuildWith(List<Course> courses, List<CourseStats> stats) {
+        when(courseStatsRepository.findAll()).thenReturn(stats);
+        when(courseRepository.findPublishedWithTagsAndCreator()).thenReturn(courses);
+        index.rebuild();
+    }
+
+    private static Course course(int id, String name, String tagName) {
+        TagsEntity tag = new TagsEntity();
+        tag.setId(id * 100);
+        tag.setName(tagName);
+        Course course = new Course();
+        course.setId(id);
+        course.setName(name);
+        course.setActive(true);
+        course.setStatus(CourseStatus.PUBLISHED);
+        course.setTags(Set.of(tag));
+        return course;
+    }
+
+    private static CourseStats stats(int courseId, int enrolled) {
+        return CourseStats.builder().courseId(courseId).enrolledCount(enrolled).build();
+    }
+
+    private static List<String> texts(List<CourseSuggestionDto> suggestions) {
+        return suggestions.stream().map(CourseSuggestionDto::getText).toList();
+    }
+}
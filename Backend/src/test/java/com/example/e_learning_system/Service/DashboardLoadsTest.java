@@ -0,0 +1,87 @@
+package com.example.e_learning_system.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardLoadsTest {
+
+    // Tasks handed to the executor, run when the test says so
+    private final List<Runnable> queued = new ArrayList<>();
+    private DashboardLoads loads;
+
+    @BeforeEach
+    void setUp() {
+        loads = new DashboardLoads(queued::add);
+    }
+
+    @Test
+    void get_ShouldLoadInlineOnceAndMemoize() {
+        AtomicInteger calls = new AtomicInteger();
+        DashboardLoads.Load<Integer> load = loads.load("courses", calls::incrementAndGet);
+
+        assertEquals(1, load.get());
+        assertEquals(1, load.get());
+
+        assertEquals(1, calls.get());
+        assertTrue(queued.isEmpty());
+        assertTrue(loads.timings().containsKey("courses"));
+    }
+
+    @Test
+    void prefetch_ShouldRunOnTheExecutorAndGetShouldReuseIt() {
+        AtomicInteger calls = new AtomicInteger();
+        DashboardLoads.Load<Integer> load = loads.load("progress", calls::incrementAndGet);
+
+        load.prefetch();
+        load.prefetch();
+        assertEquals(1, queued.size());
+        assertEquals(0, calls.get());
+
+        queued.get(0).run();
+
+        assertEquals(1, load.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void prefetch_ShouldDoNothingOnceLoaded() {
+        AtomicInteger calls = new AtomicInteger();
+        DashboardLoads.Load<Integer> load = loads.load("streak", calls::incrementAndGet);
+
+        load.get();
+        load.prefetch();
+
+        assertTrue(queued.isEmpty());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_ShouldRethrowTheLoadFailureWithoutRetrying() {
+        AtomicInteger calls = new AtomicInteger();
+        DashboardLoads.Load<Integer> load = loads.load("positions", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        load.prefetch();
+        queued.get(0).run();
+
+        assertThrows(IllegalStateException.class, load::get);
+        assertThrows(IllegalStateException.class, load::get);
+        assertEquals(1, calls.get());
+        assertTrue(loads.timings().containsKey("positions"));
+    }
+
+    @Test
+    void time_ShouldRecordSteps() {
+        assertEquals("assembled", loads.time("assemble", () -> "assembled"));
+
+        assertEquals(List.of("assemble"), new ArrayList<>(loads.timings().keySet()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Entities.UserActivityDays;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LearningStreakServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void markDay_ShouldExtendStreakOnConsecutiveDays() {
+        UserActivityDays row = new UserActivityDays();
+
+        for (int i = 0; i < 5; i++) {
+            LearningStreakService.markDay(row, START.plusDays(i));
+        }
+        LearningStreakService.markDay(row, START.plusDays(4));
+
+        assertEquals(5, row.getCurrentStreak());
+        assertEquals(5, row.getLongestStreak());
+        assertEquals(START.plusDays(4), row.getLastActiveDay());
+    }
+
+    @Test
+    void markDay_ShouldRestartStreakAfterGapAndKeepLongest() {
+        UserActivityDays row = new UserActivityDays();
+        for (int i = 0; i < 3; i++) {
+            LearningStreakService.markDay(row, START.plusDays(i));
+        }
+
+        LearningStreakService.markDay(row, START.plusDays(5));
+        LearningStreakService.markDay(row, START.plusDays(6));
+
+        assertEquals(2, row.getCurrentStreak());
+        assertEquals(3, row.getLongestStreak());
+    }
+
+    @Test
+    void markDay_ShouldFillLateEarlierDay() {
+        UserActivityDays row = new UserActivityDays();
+        LearningStreakService.markDay(row, START);
+        LearningStreakService.markDay(row, START.plusDays(2));
+
+        LearningStreakService.markDay(row, START.plusDays(1));
+
+        assertEquals(3, row.getCurrentStreak());
+        assertEquals(START.plusDays(2), row.getLastActiveDay());
+    }
+
+    @Test
+    void markDay_ShouldDropDaysOutsideWindow() {
+        UserActivityDays row = new UserActivityDays();
+        LearningStreakService.markDay(row, START);
+
+        LearningStreakService.markDay(row, START.plusDays(LearningStreakService.WINDOW_DAYS));
+
+        assertEquals(1, new BigInteger(1, row.getDays()).bitCount());
+        assertEquals(1, row.getCurrentStreak());
+    }
+
+    @Test
+    void longestRun_ShouldFindLongestRunOfSetBits() {
+        assertEquals(0, LearningStreakService.longestRun(BigInteger.ZERO));
+        assertEquals(4, LearningStreakService.longestRun(new BigInteger("1101111011", 2)));
+        assertEquals(2, LearningStreakService.trailingOnes(new BigInteger("1101111011", 2)));
+    }
+}
@@ -6,7 +6,9 @@ import com.example.e_learning_system.Dto.ModuleDtos.UpdateModuleDto;
 import com.example.e_learning_system.Entities.Module;
 import com.example.e_learning_system.Entities.ModuleVideos;
 import com.example.e_learning_system.Entities.VideoEntity;
+import com.example.e_learning_system.Events.CourseChangedEvent;
 import com.example.e_learning_system.Mapper.ModuleMapper;
+import com.example.e_learning_system.Repository.CourseModulesRepository;
 import com.example.e_learning_system.Repository.ModuleRepository;
 import com.example.e_learning_system.Repository.ModuleVideosRepository;
 import com.example.e_learning_system.Repository.VideoRepository;
@@ -18,7 +20,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +41,15 @@ class ModuleServiceImplTest {
     @Mock
     private ModuleVideosRepository moduleVideosRepository;
 
+    @Mock
+    private UserCourseProgressService userCourseProgressService;
+
+    @Mock
+    private CourseModulesRepository courseModulesRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ModuleServiceImpl moduleService;
 
@@ -174,6 +187,7 @@ class ModuleServiceImplTest {
         when(videoRepository.findById(videoId)).thenReturn(Optional.of(video));
         when(moduleVideosRepository.findByModuleAndVideo(module, video)).thenReturn(Optional.empty());
         when(module.isUniqOrder(order)).thenReturn(true);
+        when(courseModulesRepository.findCourseIdsByModuleId(moduleId)).thenReturn(List.of(7));
 
         // Act
         moduleService.addVideoToModule(moduleId, videoId, order);
@@ -184,6 +198,7 @@ class ModuleServiceImplTest {
         verify(moduleVideosRepository).findByModuleAndVideo(module, video);
         verify(module).isUniqOrder(order);
         verify(moduleVideosRepository).save(any(ModuleVideos.class));
+        verify(eventPublisher).publishEvent(any(CourseChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,119 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Events.QuizChangedEvent;
+import com.example.e_learning_system.Repository.QuizOptionRepository;
+import com.example.e_learning_system.Repository.QuizQuestionRepository;
+import com.example.e_learning_system.Repository.QuizRepository;
+import com.example.e_learning_system.excpetions.ClientException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizAnswerKeyCacheTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuizQuestionRepository quizQuestionRepository;
+
+    @Mock
+    private QuizOptionRepository quizOptionRepository;
+
+    private QuizAnswerKeyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(2, 3600);
+    }
+
+    @Test
+    void get_ShouldCompileOnceAndServeHits() {
+        stubQuizzes();
+
+        QuizAnswerKey first = cache.get(1);
+
+        assertSame(first, cache.get(1));
+        verify(quizQuestionRepository, times(1)).findMarksByQuizId(1);
+    }
+
+    @Test
+    void get_ShouldThrowWhenQuizDoesNotExist() {
+        when(quizRepository.existsById(1)).thenReturn(false);
+
+        assertThrows(ClientException.class, () -> cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void onQuizChanged_ShouldDropTheKey() {
+        stubQuizzes();
+        QuizAnswerKey first = cache.get(1);
+
+        cache.onQuizChanged(new QuizChangedEvent(1));
+
+        assertNotSame(first, cache.get(1));
+        verify(quizQuestionRepository, times(2)).findMarksByQuizId(1);
+    }
+
+    @Test
+    void get_ShouldNotStoreKeyCompiledBeforeAnInvalidation() {
+        stubQuizzes();
+        // The quiz is edited while its key is being compiled from the old rows
+        when(quizOptionRepository.findAnswerRowsByQuizId(1)).thenAnswer(invocation -> {
+            cache.invalidate(1);
+            return List.of();
+        });
+
+        cache.get(1);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        stubQuizzes();
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+
+        cache.get(3);
+
+        assertEquals(2, cache.size());
+        cache.get(1);
+        cache.get(2);
+        verify(quizQuestionRepository, times(1)).findMarksByQuizId(1);
+        verify(quizQuestionRepository, times(2)).findMarksByQuizId(2);
+    }
+
+    @Test
+    void get_ShouldRecompileExpiredKeys() {
+        stubQuizzes();
+        cache = newCache(2, 0);
+
+        cache.get(1);
+        cache.get(1);
+
+        verify(quizQuestionRepository, times(2)).findMarksByQuizId(1);
+    }
+
+    private QuizAnswerKeyCache newCache(int maxEntries, long ttlSeconds) {
+        return new QuizAnswerKeyCache(quizRepository, quizQuestionRepository, quizOptionRepository,
+                maxEntries, ttlSeconds);
+    }
+
+    private void stubQuizzes() {
+        when(quizRepository.existsById(anyInt())).thenReturn(true);
+        when(quizQuestionRepository.findMarksByQuizId(anyInt())).thenReturn(List.of());
+        lenient().when(quizOptionRepository.findAnswerRowsByQuizId(anyInt())).thenReturn(List.of());
+    }
+}
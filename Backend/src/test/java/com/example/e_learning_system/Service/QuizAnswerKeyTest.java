@@ -0,0 +1,87 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.excpetions.ClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizAnswerKeyTest {
+
+    // Question 1 (mark 2): options 12 (correct), 11; question 2 (mark 3): options 21, 22 (correct)
+    private static final List<Object[]> QUESTIONS = List.of(
+            new Object[]{1, 2f},
+            new Object[]{2, 3f});
+    private static final List<Object[]> OPTIONS = List.of(
+            new Object[]{2, 22, true},
+            new Object[]{1, 12, true},
+            new Object[]{2, 21, false},
+            new Object[]{1, 11, false});
+
+    @Test
+    void grade_ShouldScoreCorrectAnswersWhateverTheOptionRowOrder() {
+        QuizAnswerKey key = QuizAnswerKey.compile(5, QUESTIONS, OPTIONS);
+
+        QuizAnswerKey.Grading grading = key.grade(Map.of(1, 12, 2, 21));
+
+        assertEquals(5, key.getQuizId());
+        assertEquals(2, key.getQuestionCount());
+        assertEquals(2f, grading.score());
+        assertEquals(List.of(
+                new QuizAnswerKey.GradedAnswer(1, 12, true),
+                new QuizAnswerKey.GradedAnswer(2, 21, false)), grading.answers());
+    }
+
+    @Test
+    void grade_ShouldRecordUnansweredQuestionsAsIncorrect() {
+        QuizAnswerKey key = QuizAnswerKey.compile(5, QUESTIONS, OPTIONS);
+
+        QuizAnswerKey.Grading grading = key.grade(Map.of(2, 22));
+
+        assertEquals(3f, grading.score());
+        assertEquals(List.of(
+                new QuizAnswerKey.GradedAnswer(1, null, false),
+                new QuizAnswerKey.GradedAnswer(2, 22, true)), grading.answers());
+    }
+
+    @Test
+    void grade_ShouldIgnoreQuestionsOutsideTheQuiz() {
+        QuizAnswerKey key = QuizAnswerKey.compile(5, QUESTIONS, OPTIONS);
+
+        QuizAnswerKey.Grading grading = key.grade(Map.of(1, 12, 99, 990));
+
+        assertEquals(2f, grading.score());
+        assertEquals(2, grading.answers().size());
+    }
+
+    @Test
+    void grade_ShouldCountNullMarkAsZero() {
+        List<Object[]> questions = List.<Object[]>of(new Object[]{1, null});
+        QuizAnswerKey key = QuizAnswerKey.compile(5, questions, List.<Object[]>of(new Object[]{1, 11, true}));
+
+        QuizAnswerKey.Grading grading = key.grade(Map.of(1, 11));
+
+        assertEquals(0f, grading.score());
+        assertTrue(grading.answers().get(0).isCorrect());
+    }
+
+    @Test
+    void grade_ShouldRejectOptionOfAnotherQuestion() {
+        QuizAnswerKey key = QuizAnswerKey.compile(5, QUESTIONS, OPTIONS);
+
+        assertThrows(ClientException.class, () -> key.grade(Map.of(1, 21)));
+    }
+
+    @Test
+    void grade_ShouldHandleQuestionWithoutOptions() {
+        QuizAnswerKey key = QuizAnswerKey.compile(5, List.<Object[]>of(new Object[]{7, 1f}), List.of());
+
+        QuizAnswerKey.Grading grading = key.grade(Map.of());
+
+        assertEquals(0f, grading.score());
+        assertEquals(List.of(new QuizAnswerKey.GradedAnswer(7, null, false)), grading.answers());
+        assertThrows(ClientException.class, () -> key.grade(Map.of(7, 70)));
+    }
+}
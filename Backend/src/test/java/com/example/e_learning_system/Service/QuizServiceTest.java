@@ -4,6 +4,7 @@ import com.example.e_learning_system.Dto.quizzes.*;
 import com.example.e_learning_system.Entities.Course;
 import com.example.e_learning_system.Entities.QuizEntity;
 import com.example.e_learning_system.Entities.QuizQuestionEntity;
+import com.example.e_learning_system.Events.QuizChangedEvent;
 import com.example.e_learning_system.Mapper.Quizzes.QuizMapper;
 import com.example.e_learning_system.Repository.CourseRepository;
 import com.example.e_learning_system.Repository.QuizRepository;
@@ -12,6 +13,12 @@ import com.example.e_learning_system.excpetions.InvalidQuizException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
@@ -34,6 +41,9 @@ class QuizServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -108,7 +118,9 @@ class QuizServiceTest {
         quiz1.setId(1);
         QuizEntity quiz2 = new QuizEntity();
         quiz2.setId(2);
-        when(quizRepository.findAll()).thenReturn(List.of(quiz1, quiz2));
+        Pageable pageable = PageRequest.of(0, 100);
+        when(quizRepository.findWithFilters(null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(quiz1, quiz2), pageable, 2));
         when(quizMapper.entityToDto(any())).thenAnswer(i -> {
             QuizEntity q = i.getArgument(0);
             QuizResponseDTO dto = new QuizResponseDTO();
@@ -116,11 +128,33 @@ class QuizServiceTest {
             return dto;
         });
 
-        List<QuizResponseDTO> result = quizService.getQuizzes(null, null, null, null);
+        Page<QuizResponseDTO> result = quizService.getQuizzes(null, null, null, null, pageable);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().get(0).getId());
+        assertEquals(2, result.getContent().get(1).getId());
+    }
+
+    @Test
+    void getQuizzes_shouldMatchLikeWildcardsInTitleLiterally() {
+        Pageable pageable = PageRequest.of(0, 100);
+        when(quizRepository.findWithFilters(null, "100\\%\\_done\\\\", null, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        quizService.getQuizzes(null, null, " 100%_done\\ ", null, pageable);
+
+        verify(quizRepository).findWithFilters(null, "100\\%\\_done\\\\", null, pageable);
+    }
+
+    @Test
+    void getQuizzes_shouldRejectUnsupportedSortProperty() {
+        Pageable pageable = PageRequest.of(0, 100, Sort.by("course.createdBy.password"));
+
+        ClientException ex = assertThrows(ClientException.class,
+                () -> quizService.getQuizzes(null, null, null, null, pageable));
 
-        assertEquals(2, result.size());
-        assertEquals(1, result.get(0).getId());
-        assertEquals(2, result.get(1).getId());
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        verifyNoInteractions(quizRepository);
     }
 
     @Test
@@ -130,9 +164,9 @@ class QuizServiceTest {
         when(quizRepository.findById(10)).thenReturn(Optional.of(quiz));
         when(quizMapper.entityToDto(quiz)).thenReturn(new QuizResponseDTO());
 
-        List<QuizResponseDTO> result = quizService.getQuizzes(null, 10, null, null);
+        Page<QuizResponseDTO> result = quizService.getQuizzes(null, 10, null, null, PageRequest.of(0, 100));
 
-        assertEquals(1, result.size());
+        assertEquals(1, result.getContent().size());
         verify(quizRepository, times(1)).findById(10);
     }
 
@@ -165,6 +199,7 @@ class QuizServiceTest {
         assertNotNull(result);
         assertEquals(100, result.getId());
         verify(quizRepository, times(1)).save(existingQuiz);
+        verify(eventPublisher).publishEvent(any(QuizChangedEvent.class));
     }
 
     @Test
@@ -8,10 +8,14 @@ import com.example.e_learning_system.Entities.*;
 import com.example.e_learning_system.Mapper.Quizzes.QuizSubmissionsMapper;
 import com.example.e_learning_system.Repository.*;
 import com.example.e_learning_system.Security.UserUtil;
+import com.example.e_learning_system.excpetions.ClientException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -29,6 +33,11 @@ class QuizSubmissionServiceTest {
     @Mock private QuizQuestionRepository quizQuestionRepository;
     @Mock private QuizOptionRepository quizOptionRepository;
     @Mock private QuizSubmissionsMapper mapper;
+    @Mock private UserCourseProgressService userCourseProgressService;
+    @Mock private LearningStreakService learningStreakService;
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock private EntityManager entityManager;
+    @Mock private QuizAnswerKeyCache quizAnswerKeyCache;
 
     private UserEntity mockUser;
     private QuizEntity mockQuiz;
@@ -63,14 +72,6 @@ class QuizSubmissionServiceTest {
         answerDTO.setSelectedOptionId(200);
         submitDTO.setAnswers(List.of(answerDTO));
 
-        QuizQuestionEntity question = new QuizQuestionEntity();
-        question.setId(100);
-        question.setQuestionMark(5f);
-
-        QuizOptionEntity option = new QuizOptionEntity();
-        option.setId(200);
-        option.setIsCorrect(true);
-
         QuizSubmissionEntity submission = new QuizSubmissionEntity();
         submission.setId(50);
 
@@ -85,13 +86,10 @@ class QuizSubmissionServiceTest {
         responseDTO.setSubmittedAt(LocalDateTime.now());
 
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(mockUser));
-        when(quizRepository.findById(mockQuiz.getId())).thenReturn(Optional.of(mockQuiz));
+        when(quizAnswerKeyCache.get(mockQuiz.getId())).thenReturn(answerKey());
+        when(quizRepository.getReferenceById(mockQuiz.getId())).thenReturn(mockQuiz);
         when(mapper.dtoToSubmission(mockUser, mockQuiz)).thenReturn(submission);
-        when(quizQuestionRepository.findByQuizId(mockQuiz.getId())).thenReturn(List.of(question));
-        when(quizOptionRepository.findById(200)).thenReturn(Optional.of(option));
-        when(mapper.dtoToAnswer(eq(question), eq(option), eq(submission), eq(true)))
-                .thenReturn(new StudentAnswerEntity());
-        when(quizSubmissionRepository.save(any())).thenReturn(savedSubmission);
+        when(quizSubmissionRepository.save(submission)).thenReturn(savedSubmission);
         when(mapper.toResponseDTO(savedSubmission)).thenReturn(responseDTO);
 
         QuizSubmissionResponseDTO result = quizSubmissionService.submitQuiz(submitDTO);
@@ -102,7 +100,47 @@ class QuizSubmissionServiceTest {
         assertEquals(5f, result.getScore());
         assertNotNull(result.getSubmittedAt());
 
-        verify(quizSubmissionRepository, times(2)).save(any());
+        assertEquals(5f, submission.getScore());
+        verify(quizSubmissionRepository, times(1)).save(any());
+        verifyNoInteractions(quizQuestionRepository, quizOptionRepository);
+        ArgumentCaptor<SqlParameterSource[]> rows = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(2, rows.getValue().length);
+        assertEquals(50, rows.getValue()[0].getValue("submissionId"));
+        assertEquals(200, rows.getValue()[0].getValue("selectedOptionId"));
+        assertEquals(true, rows.getValue()[0].getValue("isCorrect"));
+        assertNull(rows.getValue()[1].getValue("selectedOptionId"));
+        assertEquals(false, rows.getValue()[1].getValue("isCorrect"));
+
+        ArgumentCaptor<SqlParameterSource> audit = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(contains("INSERT INTO audit_logs"), audit.capture());
+        assertEquals(1, audit.getValue().getValue("userId"));
+        assertEquals(50, audit.getValue().getValue("submissionId"));
+    }
+
+    @Test
+    void testSubmitQuiz_optionOfAnotherQuestion() {
+        QuizSubmitDTO submitDTO = new QuizSubmitDTO();
+        submitDTO.setQuizId(mockQuiz.getId());
+        StudentAnswerDTO answerDTO = new StudentAnswerDTO();
+        answerDTO.setQuestionId(100);
+        answerDTO.setSelectedOptionId(300);
+        submitDTO.setAnswers(List.of(answerDTO));
+
+        when(userRepository.findById(anyInt())).thenReturn(Optional.of(mockUser));
+        when(quizAnswerKeyCache.get(mockQuiz.getId())).thenReturn(answerKey());
+        when(quizRepository.getReferenceById(mockQuiz.getId())).thenReturn(mockQuiz);
+
+        assertThrows(ClientException.class, () -> quizSubmissionService.submitQuiz(submitDTO));
+        verify(quizSubmissionRepository, never()).save(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // Question 100 (5 marks): options 200 (correct), 201; question 101 (3 marks): option 300 (correct)
+    private QuizAnswerKey answerKey() {
+        return QuizAnswerKey.compile(mockQuiz.getId(),
+                List.of(new Object[]{100, 5f}, new Object[]{101, 3f}),
+                List.of(new Object[]{100, 201, false}, new Object[]{100, 200, true}, new Object[]{101, 300, true}));
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.example.e_learning_system.Service;
+
+import com.example.e_learning_system.Entities.Course;
+import com.example.e_learning_system.Entities.SimplePayment;
+import com.example.e_learning_system.Repository.CourseRevenueDailyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupServiceTest {
+
+    @Mock
+    private CourseRevenueDailyRepository courseRevenueDailyRepository;
+
+    @Mock
+    private CourseRankService courseRankService;
+
+    @InjectMocks
+    private RevenueRollupService revenueRollupService;
+
+    @Test
+    void recordCompleted_ShouldAddThePaymentAndRefreshTheRank() {
+        revenueRollupService.recordCompleted(payment(10, 3));
+
+        verify(courseRevenueDailyRepository).applyPayment(10, 1);
+        verify(courseRankService).refreshCourse(3);
+    }
+
+    @Test
+    void recordReversed_ShouldRemoveThePayment() {
+        revenueRollupService.recordReversed(payment(10, 3));
+
+        verify(courseRevenueDailyRepository).applyPayment(10, -1);
+        verify(courseRankService).refreshCourse(3);
+    }
+
+    @Test
+    void recordCompleted_ShouldIgnorePackagePayments() {
+        revenueRollupService.recordCompleted(payment(11, null));
+
+        verifyNoInteractions(courseRevenueDailyRepository, courseRankService);
+    }
+
+    @Test
+    void reconcile_ShouldRebuildTheRecentDaysWithADayOfSlack() {
+        ReflectionTestUtils.setField(revenueRollupService, "reconcileDays", 7);
+
+        revenueRollupService.reconcile();
+
+        verify(courseRevenueDailyRepository).rebuild(eq(LocalDate.now().minusDays(8)), isNull());
+        verify(courseRevenueDailyRepository, never()).applyPayment(any(), anyInt());
+    }
+
+    private static SimplePayment payment(int id, Integer courseId) {
+        SimplePayment payment = new SimplePayment();
+        payment.setId(id);
+        if (courseId != null) {
+            Course course = new Course();
+            course.setId(courseId);
+            payment.setCourse(course);
+        }
+        return payment;
+    }
+}
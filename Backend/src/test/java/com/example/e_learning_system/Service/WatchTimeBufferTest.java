@@ -0,0 +1,72 @@
+package com.example.e_learning_system.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WatchTimeBufferTest {
+
+    private WatchTimeBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new WatchTimeBuffer();
+    }
+
+    @Test
+    void record_ShouldCoalesceHeartbeatsPerUserAndVideo() {
+        buffer.record(1, 10, 0, 15);
+        buffer.record(1, 10, 15, 30);
+        buffer.record(2, 10, 0, 5);
+
+        Map<WatchTimeBuffer.Key, WatchTimeBuffer.Pending> drained = buffer.drain();
+
+        assertEquals(2, drained.size());
+        WatchTimeBuffer.Pending pending = drained.get(new WatchTimeBuffer.Key(1, 10));
+        assertEquals(30, pending.getWatchedSeconds());
+        // Seconds 0-29 cover buckets 0, 1 and 2
+        assertEquals(3, pending.getBuckets().cardinality());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void restore_ShouldMergeWithHeartbeatsRecordedAfterDrain() {
+        buffer.record(1, 10, 0, 10);
+        Map<WatchTimeBuffer.Key, WatchTimeBuffer.Pending> failed = buffer.drain();
+        buffer.record(1, 10, 20, 30);
+
+        buffer.restore(failed);
+
+        WatchTimeBuffer.Pending pending = buffer.drain().get(new WatchTimeBuffer.Key(1, 10));
+        assertEquals(20, pending.getWatchedSeconds());
+        assertTrue(pending.getBuckets().get(0));
+        assertFalse(pending.getBuckets().get(1));
+        assertTrue(pending.getBuckets().get(2));
+    }
+
+    @Test
+    void record_ShouldNotLoseConcurrentHeartbeats() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8000; i++) {
+                int userId = i % 100;
+                executor.execute(() -> buffer.record(userId, 1, 0, 5));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = buffer.drain().values().stream()
+                .mapToLong(WatchTimeBuffer.Pending::getWatchedSeconds)
+                .sum();
+        assertEquals(8000 * 5, total);
+    }
+}
@@ -382,13 +382,14 @@ payAndGrantAccess(payment: PaymentToDto, accessType: 'PURCHASED'): Observable<Us
   /**
    * Fetch quizzes. Backend has an endpoint: GET /quizzes/getQuizzes
    * Accepts optional courseId to filter quizzes for a course.
+   * The endpoint returns a Spring page; callers get its content.
    */
   getQuizzes(courseId?: number): Observable<any[]> {
     const params: any = {};
     if (courseId != null) params.courseId = courseId.toString();
     // The backend controller is mapped to /quizzes/getQuizzes
     return this.http.get<ApiResponse<any>>(`${this.api}/quizzes/getQuizzes`, { params }).pipe(
-      map((response: any) => response.data || response)
+      map((response: any) => response.content || response.data || response)
     );
   }
 